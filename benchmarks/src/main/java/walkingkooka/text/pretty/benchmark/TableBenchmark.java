@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import walkingkooka.text.pretty.Table;
+import walkingkooka.text.pretty.TextPretty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the copy-on-write cost of the {@link Table} mutation methods for tables of increasing size. Each benchmark
+ * returns the new {@link Table}, the original is never modified so every invocation measures a single update.
+ * <br>
+ * Run with the gc profiler to also report <code>gc.alloc.rate.norm</code>, which is what {@link #main(String[])} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// the largest table holds 100 million cells, which needs more than the default heap on most machines.
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xms4g", "-Xmx4g"}
+)
+public class TableBenchmark {
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(TableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+    /**
+     * The table size in the form WIDTHxHEIGHT.
+     */
+    @Param({
+        "10x10",
+        "100x1000",
+        "100x100000",
+        "100x1000000"
+    })
+    public String size;
+
+    private Table table;
+
+    private int width;
+
+    private int height;
+
+    private List<CharSequence> row;
+
+    private List<CharSequence> column;
+
+    private List<List<CharSequence>> window;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int x = this.size.indexOf('x');
+        final int width = Integer.parseInt(this.size.substring(0, x));
+        final int height = Integer.parseInt(this.size.substring(x + 1));
+
+        // a single setRows creates the table in one pass, setRow for every row would take too long for the large sizes.
+        // every row has the same text, the table still holds its own row arrays, but the cells are not 100 million
+        // different Strings, which would not fit in the heap.
+        final List<CharSequence> rowText = row(width, "c");
+        final List<List<CharSequence>> rows = new ArrayList<>(height);
+        for (int r = 0; r < height; r++) {
+            rows.add(rowText);
+        }
+
+        this.table = TextPretty.table()
+            .setRows(
+                0,
+                0,
+                rows
+            );
+        this.width = width;
+        this.height = height;
+
+        this.row = row(width, "row");
+
+        final List<CharSequence> column = new ArrayList<>(height);
+        for (int r = 0; r < height; r++) {
+            column.add("column" + r);
+        }
+        this.column = column;
+
+        this.window = List.of(
+            row(2, "window0-"),
+            row(2, "window1-")
+        );
+    }
+
+    private static List<CharSequence> row(final int width,
+                                          final String prefix) {
+        final List<CharSequence> row = new ArrayList<>(width);
+        for (int c = 0; c < width; c++) {
+            row.add(prefix + c);
+        }
+        return row;
+    }
+
+    @Benchmark
+    public Table setCell() {
+        return this.table.setCell(
+            this.width / 2,
+            this.height / 2,
+            "different"
+        );
+    }
+
+    @Benchmark
+    public Table setRow() {
+        return this.table.setRow(
+            this.height / 2,
+            this.row
+        );
+    }
+
+    @Benchmark
+    public Table setRows() {
+        return this.table.setRows(
+            this.width / 2,
+            this.height / 2,
+            this.window
+        );
+    }
+
+    @Benchmark
+    public Table setColumns() {
+        return this.table.setColumns(
+            this.width / 2,
+            this.height / 2,
+            this.window
+        );
+    }
+
+    @Benchmark
+    public Table setColumn() {
+        return this.table.setColumn(
+            this.width / 2,
+            this.column
+        );
+    }
+
+    @Benchmark
+    public Table setSizeGrow() {
+        return this.table.setSize(
+            this.width + 1,
+            this.height + 1
+        );
+    }
+
+    @Benchmark
+    public Table setSizeShrink() {
+        return this.table.setSize(
+            this.width - 1,
+            this.height - 1
+        );
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+import walkingkooka.collect.map.Maps;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Computes the cells of a {@link TableVirtual} from a copy of another {@link Table}, where each column is held in a
+ * single arena rather than an object for each cell.
+ * <ul>
+ * <li>A column that repeats the same text for long runs of rows holds each run once, see
+ * {@link ArenaTableBiFunctionColumnRuns}</li>
+ * <li>A column with few different values is dictionary encoded, each row holding a one byte code for a value shared
+ * by every row with the same text, see {@link ArenaTableBiFunctionColumnDictionary}</li>
+ * <li>Other columns hold the characters of every cell one after another, see {@link ArenaTableBiFunctionColumnText}</li>
+ * </ul>
+ */
+final class ArenaTableBiFunction implements BiFunction<Integer, Integer, CharSequence> {
+
+    /**
+     * Copies the text of every cell of the given {@link Table} into column arenas.
+     */
+    static Table table(final Table table) {
+        final int width = table.width();
+        final int height = table.height();
+
+        // find the values or length of each column
+        final long[] lengths = new long[width];
+        final boolean[] latin1 = new boolean[width];
+        final int[] runCounts = new int[width];
+        final CharSequence[] previous = new CharSequence[width];
+        final Map<String, Integer>[] dictionaries = dictionaries(width);
+
+        for (int column = 0; column < width; column++) {
+            latin1[column] = true;
+            dictionaries[column] = Maps.hash();
+        }
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                final CharSequence text = table.cell(
+                    column,
+                    row
+                );
+
+                if (0 == row || false == ArenaTableBiFunctionColumnRuns.isSame(previous[column], text)) {
+                    runCounts[column]++;
+                }
+                previous[column] = text;
+
+                final Map<String, Integer> dictionary = dictionaries[column];
+                if (null != dictionary) {
+                    final String value = text.toString();
+                    if (false == dictionary.containsKey(value)) {
+                        final int code = dictionary.size();
+                        dictionaries[column] = code < ArenaTableBiFunctionColumnDictionary.MAX_VALUES ?
+                            dictionary :
+                            null;
+                        dictionary.put(
+                            value,
+                            code
+                        );
+                    }
+                }
+
+                final int length = text.length();
+                lengths[column] += length;
+
+                if (latin1[column]) {
+                    for (int i = 0; i < length; i++) {
+                        if (text.charAt(i) > ArenaTableBiFunctionColumnText.LATIN1_MAX) {
+                            latin1[column] = false;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        final ArenaTableBiFunctionColumn[] columns = new ArenaTableBiFunctionColumn[width];
+        for (int column = 0; column < width; column++) {
+            final int runCount = runCounts[column];
+            final Map<String, Integer> dictionary = dictionaries[column];
+
+            columns[column] = runCount <= height / ArenaTableBiFunctionColumnRuns.MIN_RUN_LENGTH ?
+                ArenaTableBiFunctionColumnRuns.with(runCount) :
+                null != dictionary ?
+                    ArenaTableBiFunctionColumnDictionary.with(
+                        dictionary,
+                        height
+                    ) :
+                    ArenaTableBiFunctionColumnText.with(
+                        lengths[column],
+                        latin1[column],
+                        height
+                    );
+        }
+
+        // copy each cell into its column
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                columns[column].set(
+                    row,
+                    table.cell(
+                        column,
+                        row
+                    )
+                );
+            }
+        }
+
+        return TableVirtual.with(
+            width,
+            height,
+            new ArenaTableBiFunction(columns)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer>[] dictionaries(final int width) {
+        return new Map[width];
+    }
+
+    private ArenaTableBiFunction(final ArenaTableBiFunctionColumn[] columns) {
+        super();
+        this.columns = columns;
+    }
+
+    // BiFunction.......................................................................................................
+
+    @Override
+    public CharSequence apply(final Integer column,
+                              final Integer row) {
+        return this.columns[column].cell(row);
+    }
+
+    private final ArenaTableBiFunctionColumn[] columns;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (final ArenaTableBiFunctionColumn column : this.columns) {
+            b.append(separator);
+            b.append(column);
+            separator = ", ";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
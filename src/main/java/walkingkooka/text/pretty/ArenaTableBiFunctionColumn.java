@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+/**
+ * The cells of a single column held by a {@link ArenaTableBiFunction}.
+ */
+abstract class ArenaTableBiFunctionColumn {
+
+    ArenaTableBiFunctionColumn() {
+        super();
+    }
+
+    /**
+     * Returns the text of the cell at the given row.
+     */
+    abstract CharSequence cell(final int row);
+
+    /**
+     * Copies the text of the cell at the given row, rows are set in order starting with the first.
+     */
+    abstract void set(final int row,
+                      final CharSequence text);
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+import java.util.Map;
+
+/**
+ * A column with few different values, each row holds a one byte code for the value of its cell. Every cell with the
+ * same text returns the same {@link String}, so comparing cells of this column is usually an identity check.
+ */
+final class ArenaTableBiFunctionColumnDictionary extends ArenaTableBiFunctionColumn {
+
+    /**
+     * The most values a column may have and still be encoded as one byte for each row.
+     */
+    final static int MAX_VALUES = 256;
+
+    /**
+     * Creates a column with the given values and their codes.
+     */
+    static ArenaTableBiFunctionColumnDictionary with(final Map<String, Integer> dictionary,
+                                                     final int height) {
+        final String[] values = new String[dictionary.size()];
+
+        for (final Map.Entry<String, Integer> value : dictionary.entrySet()) {
+            values[value.getValue()] = value.getKey();
+        }
+
+        return new ArenaTableBiFunctionColumnDictionary(
+            dictionary,
+            values,
+            new byte[height]
+        );
+    }
+
+    private ArenaTableBiFunctionColumnDictionary(final Map<String, Integer> dictionary,
+                                                 final String[] values,
+                                                 final byte[] codes) {
+        super();
+        this.dictionary = dictionary;
+        this.values = values;
+        this.codes = codes;
+    }
+
+    @Override
+    CharSequence cell(final int row) {
+        return this.values[this.codes[row] & 0xff];
+    }
+
+    @Override
+    void set(final int row,
+             final CharSequence text) {
+        this.codes[row] = (byte) this.dictionary.get(text.toString())
+            .intValue();
+
+        // the dictionary is only needed while the cells are set
+        if (row == this.codes.length - 1) {
+            this.dictionary = null;
+        }
+    }
+
+    /**
+     * Maps each value to its code, this is cleared after the last row is set.
+     */
+    private Map<String, Integer> dictionary;
+
+    /**
+     * The values with the index being the code.
+     */
+    private final String[] values;
+
+    /**
+     * The code of each row.
+     */
+    private final byte[] codes;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.values.length + " values";
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+/**
+ * A column where the same text is repeated for long runs of rows, such as the labels of a grouped report. Only the end
+ * of each run and its text is held, and every cell in a run returns the same {@link String}.
+ */
+final class ArenaTableBiFunctionColumnRuns extends ArenaTableBiFunctionColumn {
+
+    /**
+     * A column is held as runs when it has at most one run for this many rows.
+     */
+    final static int MIN_RUN_LENGTH = 16;
+
+    /**
+     * Creates a column with room for the given number of runs.
+     */
+    static ArenaTableBiFunctionColumnRuns with(final int runCount) {
+        return new ArenaTableBiFunctionColumnRuns(
+            new int[runCount],
+            new String[runCount]
+        );
+    }
+
+    private ArenaTableBiFunctionColumnRuns(final int[] ends,
+                                           final String[] values) {
+        super();
+        this.ends = ends;
+        this.values = values;
+    }
+
+    @Override
+    CharSequence cell(final int row) {
+        final int[] ends = this.ends;
+
+        // find the first run that ends after the row
+        int low = 0;
+        int high = ends.length - 1;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (ends[middle] <= row) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return this.values[low];
+    }
+
+    @Override
+    void set(final int row,
+             final CharSequence text) {
+        int run = this.runCount;
+
+        if (0 == run || false == isSame(this.values[run - 1], text)) {
+            this.values[run] = text.toString();
+            run++;
+            this.runCount = run;
+        }
+
+        this.ends[run - 1] = row + 1;
+    }
+
+    /**
+     * Tests if both have the same characters without creating a {@link String}.
+     */
+    static boolean isSame(final CharSequence text,
+                          final CharSequence other) {
+        final int length = text.length();
+        boolean same = length == other.length();
+
+        if (same) {
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(i) != other.charAt(i)) {
+                    same = false;
+                    break;
+                }
+            }
+        }
+
+        return same;
+    }
+
+    /**
+     * The row after the end of each run.
+     */
+    private final int[] ends;
+
+    /**
+     * The text of each run.
+     */
+    private final String[] values;
+
+    /**
+     * The number of runs that have been set.
+     */
+    private int runCount;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.values.length + " runs";
+    }
+}
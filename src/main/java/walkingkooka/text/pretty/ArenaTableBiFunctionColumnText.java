@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+/**
+ * A column holding the characters of every cell one after another, with the start of each cell held in a single array
+ * of offsets. When every character is Latin-1 each is held in a single byte.
+ * <br>
+ * Cells are returned as {@link ArenaTableBiFunctionColumnTextCharSequence views} of the characters, a {@link String}
+ * is only created when the text is converted with {@link Object#toString()}.
+ */
+final class ArenaTableBiFunctionColumnText extends ArenaTableBiFunctionColumn {
+
+    final static char LATIN1_MAX = 0xff;
+
+    /**
+     * Creates a column with room for the given number of characters.
+     */
+    static ArenaTableBiFunctionColumnText with(final long length,
+                                              final boolean latin1,
+                                              final int height) {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Column has too many characters " + length);
+        }
+
+        return new ArenaTableBiFunctionColumnText(
+            new int[height + 1],
+            latin1 ?
+                new byte[(int) length] :
+                null,
+            latin1 ?
+                null :
+                new char[(int) length]
+        );
+    }
+
+    private ArenaTableBiFunctionColumnText(final int[] offsets,
+                                           final byte[] bytes,
+                                           final char[] chars) {
+        super();
+        this.offsets = offsets;
+        this.bytes = bytes;
+        this.chars = chars;
+    }
+
+    @Override
+    CharSequence cell(final int row) {
+        final int[] offsets = this.offsets;
+        final int start = offsets[row];
+        final int length = offsets[row + 1] - start;
+
+        final CharSequence text;
+
+        if (0 == length) {
+            text = null;
+        } else {
+            text = ArenaTableBiFunctionColumnTextCharSequence.with(
+                this.bytes,
+                this.chars,
+                start,
+                length
+            );
+        }
+
+        return text;
+    }
+
+    @Override
+    void set(final int row,
+             final CharSequence text) {
+        final int[] offsets = this.offsets;
+        final byte[] bytes = this.bytes;
+        final char[] chars = this.chars;
+
+        int offset = offsets[row];
+
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (null != bytes) {
+                bytes[offset] = (byte) c;
+            } else {
+                chars[offset] = c;
+            }
+            offset++;
+        }
+
+        offsets[row + 1] = offset;
+    }
+
+    /**
+     * The start of each cell, followed by the end of the last cell.
+     */
+    private final int[] offsets;
+
+    /**
+     * When every character is Latin-1 the characters are held here otherwise this is null.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Holds the characters when any is not Latin-1, otherwise this is null.
+     */
+    private final char[] chars;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return (null != this.bytes ? this.bytes.length : this.chars.length) + " characters";
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+/**
+ * A {@link CharSequence} view of a cell of a {@link ArenaTableBiFunctionColumnText}, reading characters from the
+ * column rather than copying them. A {@link String} is only created by {@link #toString()}.
+ * <br>
+ * The hash code is the same as a {@link String} with the same characters, and views are equal to other views and
+ * {@link String strings} with the same characters, so rows holding views are equal to rows holding strings.
+ */
+final class ArenaTableBiFunctionColumnTextCharSequence implements CharSequence {
+
+    /**
+     * Creates a view of the given range of Latin-1 bytes or characters, one of which must be null.
+     */
+    static ArenaTableBiFunctionColumnTextCharSequence with(final byte[] bytes,
+                                                          final char[] chars,
+                                                          final int start,
+                                                          final int length) {
+        return new ArenaTableBiFunctionColumnTextCharSequence(
+            bytes,
+            chars,
+            start,
+            length
+        );
+    }
+
+    private ArenaTableBiFunctionColumnTextCharSequence(final byte[] bytes,
+                                                       final char[] chars,
+                                                       final int start,
+                                                       final int length) {
+        super();
+        this.bytes = bytes;
+        this.chars = chars;
+        this.start = start;
+        this.length = length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final int length = this.length;
+
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + index + " < 0 || >= " + length);
+        }
+
+        final byte[] bytes = this.bytes;
+        return null != bytes ?
+            (char) (bytes[this.start + index] & ArenaTableBiFunctionColumnText.LATIN1_MAX) :
+            this.chars[this.start + index];
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        final int length = this.length;
+
+        if (start < 0) {
+            throw new StringIndexOutOfBoundsException("Start " + start + " < 0");
+        }
+        if (start > end) {
+            throw new StringIndexOutOfBoundsException("Start " + start + " > end " + end);
+        }
+        if (end > length) {
+            throw new StringIndexOutOfBoundsException("End " + end + "> " + length);
+        }
+
+        return 0 == start && length == end ?
+            this :
+            new ArenaTableBiFunctionColumnTextCharSequence(
+                this.bytes,
+                this.chars,
+                this.start + start,
+                end - start
+            );
+    }
+
+    /**
+     * Holds the characters when they are all Latin-1 otherwise this is null.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Holds the characters when any is not Latin-1, otherwise this is null.
+     */
+    private final char[] chars;
+
+    private final int start;
+
+    private final int length;
+
+    // Object...........................................................................................................
+
+    /**
+     * The same hash code as {@link String#hashCode()}, computed without creating the {@link String}.
+     */
+    @Override
+    public int hashCode() {
+        final int length = this.length;
+
+        int hashCode = 0;
+        for (int i = 0; i < length; i++) {
+            hashCode = 31 * hashCode + this.charAt(i);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            ((other instanceof ArenaTableBiFunctionColumnTextCharSequence || other instanceof String) &&
+                this.equals0((CharSequence) other));
+    }
+
+    private boolean equals0(final CharSequence other) {
+        final int length = this.length;
+        boolean equals = length == other.length();
+
+        for (int i = 0; equals && i < length; i++) {
+            equals = this.charAt(i) == other.charAt(i);
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        final int length = this.length;
+        final String toString;
+
+        final byte[] bytes = this.bytes;
+        if (null != bytes) {
+            final char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) (bytes[this.start + i] & ArenaTableBiFunctionColumnText.LATIN1_MAX);
+            }
+            toString = new String(chars);
+        } else {
+            toString = new String(
+                this.chars,
+                this.start,
+                length
+            );
+        }
+
+        return toString;
+    }
+}
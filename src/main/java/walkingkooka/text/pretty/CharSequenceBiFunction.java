@@ -20,6 +20,7 @@ package walkingkooka.text.pretty;
 import walkingkooka.text.LineEnding;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 /**
@@ -52,28 +53,106 @@ abstract class CharSequenceBiFunction implements BiFunction<CharSequence, Intege
     }
 
     /**
-     * Process lines from bottom to top, because some lines might be replaced by multiple lines.
+     * Handles every line in a single pass, from bottom to top so the same line fails first as when lines were replaced
+     * one at a time. A line may be replaced by multiple lines, or removed when it becomes empty. The new lines are
+     * copied once into an array sized to hold them all.
      */
     private CharSequence handleMultiLine(final CharSequence text,
                                          final MultiLineCharSequence multi,
                                          final int width) {
-        MultiLineCharSequence result = multi;
-        final List<CharSequence> lines = result.lines;
-        int lineCount = lines.size();
-        for (int i = 0; i < lineCount; i++) {
-            final int lineNumber = lineCount - i - 1;
-            final CharSequence line = result.line(lineNumber);
-            result = result.setText(lineNumber, this.handleLine(line, width));
+        final List<CharSequence> lines = multi.lines;
+        final int lineCount = lines.size();
+        final LineEnding lineEnding = multi.lineEnding;
+
+        final CharSequence[] handled = new CharSequence[lineCount];
+        int newLineCount = 0;
+
+        for (int i = lineCount - 1; i >= 0; i--) {
+            CharSequence line = this.handleLine(
+                lines.get(i),
+                width
+            );
+            if (false == line instanceof MultiLineCharSequence && hasLineEnding(line)) {
+                line = MultiLineCharSequence.parse(
+                    line,
+                    lineEnding
+                );
+            }
+            handled[i] = line;
+
+            newLineCount += line instanceof MultiLineCharSequence ?
+                ((MultiLineCharSequence) line).lineCount() :
+                0 == line.length() ?
+                    0 :
+                    1;
         }
 
+        final CharSequence[] newLines = new CharSequence[newLineCount];
+        int j = 0;
+
+        for (final CharSequence line : handled) {
+            if (line instanceof MultiLineCharSequence) {
+                for (final CharSequence replaced : ((MultiLineCharSequence) line).lines) {
+                    newLines[j] = replaced;
+                    j++;
+                }
+            } else {
+                if (line.length() > 0) {
+                    newLines[j] = line;
+                    j++;
+                }
+            }
+        }
+
+        final MultiLineCharSequence result = isSame(lines, newLines) ?
+            multi :
+            MultiLineCharSequence.lines(
+                newLines,
+                lineEnding
+            );
+
         // if result is the same object return the original different then it must have changes
         return result == text ?
             text :
             result;
     }
 
-    private CharSequence handleLine(final CharSequence text,
-                                    final int width) {
+    private static boolean hasLineEnding(final CharSequence text) {
+        final int length = text.length();
+        boolean lineEnding = false;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if ('\n' == c || '\r' == c) {
+                lineEnding = true;
+                break;
+            }
+        }
+
+        return lineEnding;
+    }
+
+    private static boolean isSame(final List<CharSequence> lines,
+                                  final CharSequence[] newLines) {
+        final int count = newLines.length;
+        boolean same = lines.size() == count;
+
+        for (int i = 0; same && i < count; i++) {
+            same = Objects.equals(
+                lines.get(i),
+                newLines[i]
+            );
+        }
+
+        return same;
+    }
+
+    /**
+     * Handles a single line of text, also used by {@link ColumnConfigFormatter} for text already known to hold a single
+     * line.
+     */
+    final CharSequence handleLine(final CharSequence text,
+                                  final int width) {
         final int length = text.length();
         return 0 == length ?
             this.empty(width) :
@@ -17,6 +17,7 @@
 
 package walkingkooka.text.pretty;
 
+import java.util.Arrays;
 import java.util.function.BiFunction;
 
 /**
@@ -45,6 +46,46 @@ abstract class CharSequenceBiFunctionAlign extends CharSequenceBiFunction {
         throw new IllegalArgumentException("Text length " + text.length() + " > " + width + " while " + this);
     }
 
+    /**
+     * Returns the text with the given number of spaces before and after, filling a single array rather than
+     * concatenating.
+     */
+    static String pad(final CharSequence text,
+                      final int left,
+                      final int right) {
+        final int length = text.length();
+        final char[] chars = new char[left + length + right];
+
+        Arrays.fill(
+            chars,
+            0,
+            left,
+            ' '
+        );
+
+        if (text instanceof String) {
+            ((String) text).getChars(
+                0,
+                length,
+                chars,
+                left
+            );
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[left + i] = text.charAt(i);
+            }
+        }
+
+        Arrays.fill(
+            chars,
+            left + length,
+            chars.length,
+            ' '
+        );
+
+        return new String(chars);
+    }
+
     /**
      * Any {@link CharSequenceBiFunctionAlign} replaces any other {@link CharSequenceBiFunctionAlign}.
      */
@@ -17,8 +17,6 @@
 
 package walkingkooka.text.pretty;
 
-import walkingkooka.text.CharSequences;
-
 import java.util.function.BiFunction;
 
 /**
@@ -45,11 +43,11 @@ final class CharSequenceBiFunctionAlignCenter extends CharSequenceBiFunctionAlig
         final int left = (width - beforeTextWidth) / 2;
         final int right = width - (beforeTextWidth + left);
 
-        return CharSequences.concat(
-            CharSequences.repeating(' ', left),
-            CharSequences.concat(
-                text,
-                CharSequences.repeating(' ', right)));
+        return pad(
+            text,
+            left,
+            right
+        );
     }
 
     @Override
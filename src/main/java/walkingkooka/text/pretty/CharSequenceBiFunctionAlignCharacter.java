@@ -18,7 +18,6 @@
 package walkingkooka.text.pretty;
 
 import walkingkooka.predicate.character.CharPredicate;
-import walkingkooka.text.CharSequences;
 
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -72,9 +71,11 @@ final class CharSequenceBiFunctionAlignCharacter extends CharSequenceBiFunctionA
                         }
                     }
 
-                    aligned = CharSequences.concat(
-                        CharSequences.repeating(' ', leftPadding),
-                        text);
+                    aligned = pad(
+                        text,
+                        leftPadding,
+                        0
+                    );
                 }
                 break;
             }
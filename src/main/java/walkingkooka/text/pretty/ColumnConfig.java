@@ -217,6 +217,18 @@ public final class ColumnConfig implements UnaryOperator<List<CharSequence>> {
 
     final List<BiFunction<CharSequence, Integer, CharSequence>> functions;
 
+    /**
+     * Lazily compiles the {@link #functions} into a {@link ColumnConfigFormatter}, which is shared by every request.
+     */
+    ColumnConfigFormatter formatter() {
+        if (null == this.formatter) {
+            this.formatter = ColumnConfigFormatter.with(this.functions);
+        }
+        return this.formatter;
+    }
+
+    private ColumnConfigFormatter formatter;
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The compiled form of the {@link ColumnConfig#functions}, which formats the text of a cell in a single pass.
+ * <br>
+ * Text holding a single line without any line ending is passed directly from one {@link CharSequenceBiFunction} to
+ * the next, without each function parsing the text into lines again. Only the overflow break functions return more than
+ * one line, always as a {@link MultiLineCharSequence}. Multi-line text and any functions after lines were broken are
+ * applied one after another using {@link BiFunction#apply(Object, Object)}.
+ */
+final class ColumnConfigFormatter {
+
+    static ColumnConfigFormatter with(final List<BiFunction<CharSequence, Integer, CharSequence>> functions) {
+        // the functions before the first function that is not a CharSequenceBiFunction
+        final List<CharSequenceBiFunction> lineFunctions = Lists.array();
+
+        for (final BiFunction<CharSequence, Integer, CharSequence> function : functions) {
+            if (false == function instanceof CharSequenceBiFunction) {
+                break;
+            }
+            lineFunctions.add((CharSequenceBiFunction) function);
+        }
+
+        return new ColumnConfigFormatter(
+            lineFunctions.toArray(new CharSequenceBiFunction[lineFunctions.size()]),
+            functions
+        );
+    }
+
+    private ColumnConfigFormatter(final CharSequenceBiFunction[] lineFunctions,
+                                  final List<BiFunction<CharSequence, Integer, CharSequence>> functions) {
+        super();
+        this.lineFunctions = lineFunctions;
+        this.functions = functions;
+    }
+
+    /**
+     * Applies all the functions to the given text, giving the same result as applying each function in turn.
+     */
+    CharSequence format(final CharSequence text,
+                        final int width) {
+        CharSequence out = text;
+        int i = 0;
+
+        if (isLine(text)) {
+            final CharSequenceBiFunction[] lineFunctions = this.lineFunctions;
+            final int count = lineFunctions.length;
+
+            while (i < count && false == out instanceof MultiLineCharSequence) {
+                // empty text is returned unchanged just like CharSequenceBiFunction#apply
+                if (out.length() > 0) {
+                    out = lineFunctions[i].handleLine(
+                        out,
+                        width
+                    );
+                }
+                i++;
+            }
+        }
+
+        final List<BiFunction<CharSequence, Integer, CharSequence>> functions = this.functions;
+        final int count = functions.size();
+
+        while (i < count) {
+            out = functions.get(i)
+                .apply(
+                    out,
+                    width
+                );
+            i++;
+        }
+
+        return out;
+    }
+
+    /**
+     * Tests if the text is a single line without any line ending.
+     */
+    private static boolean isLine(final CharSequence text) {
+        boolean line = false == text instanceof MultiLineCharSequence;
+
+        if (line) {
+            final int length = text.length();
+
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                if ('\n' == c || '\r' == c) {
+                    line = false;
+                    break;
+                }
+            }
+        }
+
+        return line;
+    }
+
+    /**
+     * The leading {@link CharSequenceBiFunction functions} that may be applied directly to a single line.
+     */
+    private final CharSequenceBiFunction[] lineFunctions;
+
+    /**
+     * All the functions in order.
+     */
+    private final List<BiFunction<CharSequence, Integer, CharSequence>> functions;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.functions.toString();
+    }
+}
@@ -17,8 +17,10 @@
 
 package walkingkooka.text.pretty;
 
+import walkingkooka.collect.map.Maps;
+
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +36,7 @@ final class ColumnConfigRequest {
     private ColumnConfigRequest(final ColumnConfig config) {
         super();
         this.config = config;
+        this.formatter = config.formatter();
     }
 
     public List<CharSequence> apply(final List<CharSequence> rows) {
@@ -51,19 +54,60 @@ final class ColumnConfigRequest {
 
     private int width = 0;
 
+    /**
+     * Formats the text of a cell using the compiled functions, remembering the result for text that was seen before. Columns with
+     * few different values such as a status, or long runs of the same text only apply the functions once for each value.
+     */
     private CharSequence applyColumn(final CharSequence row) {
-        final int width = this.width;
+        CharSequence out;
+
+        // the rows of a run often share the same text
+        if (row == this.previous) {
+            out = this.previousOut;
+        } else {
+            final Map<CharSequence, CharSequence> memo = this.memo;
+
+            out = memo.get(row);
+            if (null == out) {
+                out = this.formatter.format(
+                    row,
+                    this.width
+                );
 
-        CharSequence out = row;
-        for (final BiFunction<CharSequence, Integer, CharSequence> function : this.config.functions) {
-            out = function.apply(out, width);
+                // stop remembering when the column has many different values
+                if (memo.size() < MEMO_MAX) {
+                    memo.put(
+                        row,
+                        out
+                    );
+                }
+            }
+
+            this.previous = row;
+            this.previousOut = out;
         }
 
         return out;
     }
 
+    /**
+     * The text of the previous cell and its result.
+     */
+    private CharSequence previous;
+
+    private CharSequence previousOut;
+
+    /**
+     * The results of previously transformed text, which is only valid for the {@link #width} of this request.
+     */
+    private final Map<CharSequence, CharSequence> memo = Maps.hash();
+
+    private final static int MEMO_MAX = 256;
+
     final ColumnConfig config;
 
+    private final ColumnConfigFormatter formatter;
+
     // Object...........................................................................................................
 
     @Override
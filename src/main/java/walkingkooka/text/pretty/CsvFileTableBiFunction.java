@@ -0,0 +1,440 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Computes the cells of a {@link TableVirtual} from a csv file that is memory mapped rather than read into the heap,
+ * for files larger than the 2G characters of a {@link CharSequence} given to {@link CsvTableBiFunction}. Offsets are
+ * longs, and the file is mapped in segments because a single mapping is limited to 2G bytes.
+ * <br>
+ * The file is scanned once recording the start of every {@link #INDEX_STRIDE}th line, a line is found by scanning
+ * forward from the nearest recorded start and is only decoded and parsed by a {@link CsvListCharSequenceFunction} when
+ * one of its cells is read. The most recently parsed line is kept, and reading the following line starts where it
+ * ended, so reading the rows in order scans the file once.
+ * <br>
+ * The file must use an encoding where line endings, double quotes and the delimiter are single bytes that never appear
+ * within another character, such as UTF-8 or ISO-8859-1.
+ * <br>
+ * This is only available on the JVM, J2CL has no {@link FileChannel}.
+ */
+@GwtIncompatible
+final class CsvFileTableBiFunction implements BiFunction<Integer, Integer, CharSequence> {
+
+    /**
+     * The start of one in this many lines is recorded.
+     */
+    final static int INDEX_STRIDE = 32;
+
+    /**
+     * Each mapped segment holds 2 to the power of this many bytes.
+     */
+    final static int SEGMENT_SHIFT = 30;
+
+    /**
+     * Maps the given file and creates a {@link Table} with a row for each line.
+     */
+    static Table table(final Path path,
+                       final Charset charset,
+                       final char delimiter) throws IOException {
+        return table(
+            path,
+            charset,
+            delimiter,
+            SEGMENT_SHIFT
+        );
+    }
+
+    /**
+     * Accepts the segment size so tests may map small files in several segments.
+     */
+    static Table table(final Path path,
+                       final Charset charset,
+                       final char delimiter,
+                       final int segmentShift) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(charset, "charset");
+        if (delimiter > 127 || DOUBLE_QUOTE == delimiter || '\n' == delimiter || '\r' == delimiter) {
+            throw new IllegalArgumentException("Invalid delimiter '" + delimiter + "' expected an ascii character other than double quote or a line ending");
+        }
+
+        final CsvFileTableBiFunction function;
+
+        // the mappings remain valid after the channel is closed
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            function = new CsvFileTableBiFunction(
+                map(
+                    channel,
+                    segmentShift
+                ),
+                channel.size(),
+                segmentShift,
+                charset,
+                delimiter
+            );
+        }
+
+        return TableVirtual.with(
+            function.width,
+            function.height,
+            function
+        );
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel,
+                                          final int segmentShift) throws IOException {
+        final long size = channel.size();
+        final long segmentSize = 1L << segmentShift;
+        final int count = (int) ((size + segmentSize - 1) >>> segmentShift);
+
+        final MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            final long position = i * segmentSize;
+
+            segments[i] = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                position,
+                Math.min(
+                    segmentSize,
+                    size - position
+                )
+            );
+        }
+
+        return segments;
+    }
+
+    private CsvFileTableBiFunction(final MappedByteBuffer[] segments,
+                                   final long size,
+                                   final int segmentShift,
+                                   final Charset charset,
+                                   final char delimiter) {
+        super();
+        this.segments = segments;
+        this.size = size;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.charset = charset;
+        this.delimiter = (byte) delimiter;
+        this.function = CsvListCharSequenceFunction.with(delimiter);
+
+        long[] index = new long[TableNotEmptyList.computeCapacity(1)];
+        long height = 0;
+        int width = 0;
+
+        long start = 0;
+        int fields = 1;
+        boolean quoted = false;
+
+        long position = 0;
+        for (final MappedByteBuffer segment : segments) {
+            final int limit = segment.limit();
+
+            for (int i = 0; i < limit; i++) {
+                final byte b = segment.get(i);
+
+                if (DOUBLE_QUOTE == b) {
+                    // two double quotes for an escaped double quote flip twice
+                    quoted = !quoted;
+                } else {
+                    if (!quoted) {
+                        if (this.delimiter == b) {
+                            fields++;
+                        } else {
+                            if ('\n' == b) {
+                                final long lineEnding = position + i;
+
+                                index = this.index(
+                                    index,
+                                    height,
+                                    start
+                                );
+                                height++;
+
+                                width = Math.max(
+                                    width,
+                                    this.isEmpty(start, lineEnding) ? 0 : fields
+                                );
+
+                                start = lineEnding + 1;
+                                fields = 1;
+                            }
+                        }
+                    }
+                }
+            }
+
+            position += limit;
+        }
+
+        // the last line may not end with a line ending
+        if (start < size) {
+            index = this.index(
+                index,
+                height,
+                start
+            );
+            height++;
+
+            width = Math.max(
+                width,
+                this.isEmpty(start, size) ? 0 : fields
+            );
+        }
+
+        if (height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many lines " + height + " > " + Integer.MAX_VALUE);
+        }
+
+        this.index = index;
+        this.width = width;
+        this.height = (int) height;
+    }
+
+    /**
+     * Records the start of the given line if it is one of the lines that are indexed, growing the index if necessary.
+     */
+    private long[] index(final long[] index,
+                         final long line,
+                         final long start) {
+        long[] result = index;
+
+        if (0 == line % INDEX_STRIDE) {
+            final int i = (int) (line / INDEX_STRIDE);
+            if (i >= result.length) {
+                final long[] copy = new long[result.length * 2];
+                System.arraycopy(
+                    result,
+                    0,
+                    copy,
+                    0,
+                    result.length
+                );
+                result = copy;
+            }
+            result[i] = start;
+        }
+
+        return result;
+    }
+
+    /**
+     * Tests if the line between the given start and its line ending has no text.
+     */
+    private boolean isEmpty(final long start,
+                            final long lineEnding) {
+        return start == this.end(start, lineEnding);
+    }
+
+    /**
+     * Returns the end of the line, ignoring a carriage return before the line feed.
+     */
+    private long end(final long start,
+                     final long lineEnding) {
+        long end = Math.min(
+            lineEnding,
+            this.size
+        );
+        if (end > start && '\r' == this.byteAt(end - 1)) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the position of the line feed that ends the line starting at the given position, or the size of the file
+     * if the last line has no line ending.
+     */
+    private long lineEnding(final long start) {
+        final long size = this.size;
+
+        long position = start;
+        boolean quoted = false;
+
+        while (position < size) {
+            final byte b = this.byteAt(position);
+
+            if (DOUBLE_QUOTE == b) {
+                quoted = !quoted;
+            } else {
+                if (!quoted && '\n' == b) {
+                    break;
+                }
+            }
+
+            position++;
+        }
+
+        return position;
+    }
+
+    private byte byteAt(final long position) {
+        return this.segments[(int) (position >>> this.segmentShift)]
+            .get((int) (position & this.segmentMask));
+    }
+
+    /**
+     * Copies the bytes between the given positions, which may span several segments.
+     */
+    private byte[] bytes(final long start,
+                         final long end) {
+        final long length = end - start;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Line starting at " + start + " too long " + length + " > " + Integer.MAX_VALUE);
+        }
+
+        final byte[] bytes = new byte[(int) length];
+
+        int i = 0;
+        long position = start;
+        while (position < end) {
+            // duplicate so the position of the shared segment is never changed
+            final ByteBuffer segment = this.segments[(int) (position >>> this.segmentShift)]
+                .duplicate();
+            final int offset = (int) (position & this.segmentMask);
+            final int count = (int) Math.min(
+                end - position,
+                segment.limit() - offset
+            );
+
+            segment.position(offset);
+            segment.get(
+                bytes,
+                i,
+                count
+            );
+
+            i += count;
+            position += count;
+        }
+
+        return bytes;
+    }
+
+    // BiFunction.......................................................................................................
+
+    @Override
+    public CharSequence apply(final Integer column,
+                              final Integer row) {
+        final List<CharSequence> fields = this.fields(row);
+        final int c = column;
+
+        return c < fields.size() ?
+            fields.get(c) :
+            null;
+    }
+
+    /**
+     * Returns the fields for the given row, parsing its line if it is not the last parsed line.
+     */
+    private List<CharSequence> fields(final int row) {
+        CsvFileTableBiFunctionLine line = this.line;
+
+        if (null == line || row != line.row) {
+            long start;
+            int skip;
+
+            if (null != line && row == line.row + 1) {
+                start = line.next;
+                skip = 0;
+            } else {
+                start = this.index[row / INDEX_STRIDE];
+                skip = row % INDEX_STRIDE;
+            }
+
+            while (skip > 0) {
+                start = this.lineEnding(start) + 1;
+                skip--;
+            }
+
+            final long lineEnding = this.lineEnding(start);
+
+            line = new CsvFileTableBiFunctionLine(
+                row,
+                lineEnding + 1,
+                this.function.apply(
+                    new String(
+                        this.bytes(
+                            start,
+                            this.end(
+                                start,
+                                lineEnding
+                            )
+                        ),
+                        this.charset
+                    )
+                )
+            );
+            this.line = line;
+        }
+
+        return line.fields;
+    }
+
+    /**
+     * The file mapped in segments of 2 to the power of {@link #segmentShift} bytes.
+     */
+    private final MappedByteBuffer[] segments;
+
+    private final long size;
+
+    private final int segmentShift;
+
+    private final long segmentMask;
+
+    private final Charset charset;
+
+    private final byte delimiter;
+
+    /**
+     * The start of every {@link #INDEX_STRIDE}th line.
+     */
+    private final long[] index;
+
+    private final int width;
+
+    private final int height;
+
+    private final CsvListCharSequenceFunction function;
+
+    /**
+     * The last parsed line, which is replaced rather than updated so it may be read by many threads.
+     */
+    private CsvFileTableBiFunctionLine line;
+
+    private final static byte DOUBLE_QUOTE = '"';
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.function.toString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.util.List;
+
+/**
+ * A parsed line kept by {@link CsvFileTableBiFunction}, with the position of the following line.
+ */
+@GwtIncompatible
+final class CsvFileTableBiFunctionLine {
+
+    CsvFileTableBiFunctionLine(final int row,
+                               final long next,
+                               final List<CharSequence> fields) {
+        super();
+        this.row = row;
+        this.next = next;
+        this.fields = fields;
+    }
+
+    final int row;
+
+    /**
+     * The position of the start of the following line.
+     */
+    final long next;
+
+    final List<CharSequence> fields;
+
+    @Override
+    public String toString() {
+        return this.row + " " + this.fields;
+    }
+}
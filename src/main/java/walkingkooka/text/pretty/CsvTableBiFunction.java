@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Computes the cells of a {@link TableVirtual} from csv text, where each line is a row. The text is scanned once to
+ * record where each line starts, after which a line is only parsed by a {@link CsvListCharSequenceFunction} when one
+ * of its cells is read. The most recently parsed line is kept, so reading the cells of a row one after another
+ * parses the line once.
+ * <br>
+ * Line endings within double quotes are part of the field, a carriage return before a line feed is ignored.
+ * <br>
+ * Line starts are ints, which is enough for any {@link CharSequence} because its length is an int, limiting the text to
+ * 2G characters, larger files may be read with {@link CsvFileTableBiFunction}.
+ */
+final class CsvTableBiFunction implements BiFunction<Integer, Integer, CharSequence> {
+
+    /**
+     * Creates a {@link Table} with a row for each line of the given text.
+     */
+    static Table table(final CharSequence text,
+                       final char delimiter) {
+        Objects.requireNonNull(text, "text");
+
+        final CsvTableBiFunction function = new CsvTableBiFunction(
+            // cells are parsed later so mutable text must be copied
+            text instanceof StringBuilder || text instanceof StringBuffer ?
+                text.toString() :
+                text,
+            delimiter
+        );
+
+        return TableVirtual.with(
+            function.width,
+            function.height,
+            function
+        );
+    }
+
+    private CsvTableBiFunction(final CharSequence text,
+                               final char delimiter) {
+        super();
+        this.text = text;
+        this.function = CsvListCharSequenceFunction.with(delimiter);
+
+        final int length = text.length();
+
+        int[] starts = new int[TableNotEmptyList.computeCapacity(1)];
+        int height = 0;
+        int width = 0;
+
+        int start = 0;
+        int fields = 1;
+        boolean quoted = false;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            if (DOUBLE_QUOTE == c) {
+                // two double quotes for an escaped double quote flip twice
+                quoted = !quoted;
+            } else {
+                if (!quoted) {
+                    if (delimiter == c) {
+                        fields++;
+                    } else {
+                        if ('\n' == c) {
+                            if (height + 1 >= starts.length) {
+                                starts = copyOf(starts);
+                            }
+                            starts[height] = start;
+                            height++;
+
+                            width = Math.max(
+                                width,
+                                this.isEmpty(start, i) ? 0 : fields
+                            );
+
+                            start = i + 1;
+                            fields = 1;
+                        }
+                    }
+                }
+            }
+        }
+
+        // the last line may not end with a line ending
+        if (start < length) {
+            if (height + 1 >= starts.length) {
+                starts = copyOf(starts);
+            }
+            starts[height] = start;
+            height++;
+
+            width = Math.max(
+                width,
+                this.isEmpty(start, length + 1) ? 0 : fields
+            );
+
+            starts[height] = length + 1;
+        } else {
+            starts[height] = start;
+        }
+
+        this.starts = starts;
+        this.width = width;
+        this.height = height;
+    }
+
+    private static int[] copyOf(final int[] starts) {
+        final int[] copy = new int[starts.length * 2];
+        System.arraycopy(
+            starts,
+            0,
+            copy,
+            0,
+            starts.length
+        );
+        return copy;
+    }
+
+    /**
+     * Tests if the line between the given start and its line ending has no text.
+     */
+    private boolean isEmpty(final int start,
+                            final int lineEnding) {
+        return start == this.end(start, lineEnding);
+    }
+
+    /**
+     * Returns the end of the line, ignoring a carriage return before the line feed.
+     */
+    private int end(final int start,
+                    final int lineEnding) {
+        int end = Math.min(
+            lineEnding,
+            this.text.length()
+        );
+        if (end > start && '\r' == this.text.charAt(end - 1)) {
+            end--;
+        }
+        return end;
+    }
+
+    // BiFunction.......................................................................................................
+
+    @Override
+    public CharSequence apply(final Integer column,
+                              final Integer row) {
+        final List<CharSequence> fields = this.fields(row);
+        final int c = column;
+
+        return c < fields.size() ?
+            fields.get(c) :
+            null;
+    }
+
+    /**
+     * Returns the fields for the given row, parsing its line if it is not the last parsed line.
+     */
+    private List<CharSequence> fields(final int row) {
+        CsvTableBiFunctionLine line = this.line;
+
+        if (null == line || row != line.row) {
+            final int start = this.starts[row];
+
+            line = new CsvTableBiFunctionLine(
+                row,
+                this.function.apply(
+                    this.text.subSequence(
+                        start,
+                        this.end(
+                            start,
+                            this.starts[row + 1] - 1
+                        )
+                    )
+                )
+            );
+            this.line = line;
+        }
+
+        return line.fields;
+    }
+
+    private final CharSequence text;
+
+    /**
+     * The start of each line, followed by the start of a following line which may be after the end of the text.
+     */
+    private final int[] starts;
+
+    private final int width;
+
+    private final int height;
+
+    private final CsvListCharSequenceFunction function;
+
+    /**
+     * The last parsed line, which is replaced rather than updated so it may be read by many threads.
+     */
+    private CsvTableBiFunctionLine line;
+
+    private final static char DOUBLE_QUOTE = '"';
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.function.toString();
+    }
+}
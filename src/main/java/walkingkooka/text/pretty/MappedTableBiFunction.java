@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.function.BiFunction;
+
+/**
+ * Computes the cells of a view of a {@link Table} by mapping each column and row to a column and row of the underlying
+ * cells, which may also be transposed. Views of views compose their mappings rather than reading through each other,
+ * so reading a cell costs the same no matter how many views were created.
+ * <br>
+ * A column or row of -1 is not mapped and its cells are missing. The column and row mappings are either an array, or
+ * when null the identity, in both cases starting at an offset so a window shares the mapping of its {@link Table}.
+ */
+final class MappedTableBiFunction implements BiFunction<Integer, Integer, CharSequence> {
+
+    /**
+     * Creates a mapping where each column and row reads the same column and row of the given cells.
+     */
+    static MappedTableBiFunction with(final BiFunction<Integer, Integer, CharSequence> cells,
+                                      final int width,
+                                      final int height) {
+        return new MappedTableBiFunction(
+            cells,
+            false,
+            null,
+            0,
+            width,
+            null,
+            0,
+            height
+        );
+    }
+
+    private MappedTableBiFunction(final BiFunction<Integer, Integer, CharSequence> cells,
+                                  final boolean transposed,
+                                  final int[] columns,
+                                  final int columnStart,
+                                  final int columnCount,
+                                  final int[] rows,
+                                  final int rowStart,
+                                  final int rowCount) {
+        super();
+        this.cells = cells;
+        this.transposed = transposed;
+        this.columns = columns;
+        this.columnStart = columnStart;
+        this.columnCount = columnCount;
+        this.rows = rows;
+        this.rowStart = rowStart;
+        this.rowCount = rowCount;
+    }
+
+    // BiFunction.......................................................................................................
+
+    @Override
+    public CharSequence apply(final Integer column,
+                              final Integer row) {
+        final int mappedColumn = this.column(column);
+        final int mappedRow = this.row(row);
+
+        return mappedColumn >= 0 && mappedRow >= 0 ?
+            this.transposed ?
+                this.cells.apply(
+                    mappedRow,
+                    mappedColumn
+                ) :
+                this.cells.apply(
+                    mappedColumn,
+                    mappedRow
+                ) :
+            null;
+    }
+
+    /**
+     * Returns the underlying column for the given column or -1 if it is not mapped.
+     */
+    int column(final int column) {
+        return map(
+            column,
+            this.columns,
+            this.columnStart,
+            this.columnCount
+        );
+    }
+
+    /**
+     * Returns the underlying row for the given row or -1 if it is not mapped.
+     */
+    int row(final int row) {
+        return map(
+            row,
+            this.rows,
+            this.rowStart,
+            this.rowCount
+        );
+    }
+
+    private static int map(final int index,
+                           final int[] mapping,
+                           final int start,
+                           final int count) {
+        return index < count ?
+            null != mapping ?
+                mapping[start + index] :
+                start + index :
+            -1;
+    }
+
+    // views............................................................................................................
+
+    /**
+     * Returns a mapping where each column reads the given underlying column, which must be a value returned by
+     * {@link #column(int)}.
+     */
+    MappedTableBiFunction setColumns(final int[] columns) {
+        return new MappedTableBiFunction(
+            this.cells,
+            this.transposed,
+            columns,
+            0,
+            columns.length,
+            this.rows,
+            this.rowStart,
+            this.rowCount
+        );
+    }
+
+    /**
+     * Returns a mapping where each row reads the given underlying row, which must be a value returned by
+     * {@link #row(int)}.
+     */
+    MappedTableBiFunction setRows(final int[] rows) {
+        return new MappedTableBiFunction(
+            this.cells,
+            this.transposed,
+            this.columns,
+            this.columnStart,
+            this.columnCount,
+            rows,
+            0,
+            rows.length
+        );
+    }
+
+    /**
+     * Returns a mapping of the given window, sharing the column and row mappings.
+     */
+    MappedTableBiFunction window(final int startColumn,
+                                 final int startRow,
+                                 final int width,
+                                 final int height) {
+        final int columnCount = count(
+            this.columnCount,
+            startColumn,
+            width
+        );
+        final int rowCount = count(
+            this.rowCount,
+            startRow,
+            height
+        );
+
+        return new MappedTableBiFunction(
+            this.cells,
+            this.transposed,
+            this.columns,
+            0 == columnCount ?
+                0 :
+                this.columnStart + startColumn,
+            columnCount,
+            this.rows,
+            0 == rowCount ?
+                0 :
+                this.rowStart + startRow,
+            rowCount
+        );
+    }
+
+    /**
+     * Returns the number of mapped indices in a window starting at the given index with the given size.
+     */
+    private static int count(final int count,
+                             final int start,
+                             final int size) {
+        return start < count ?
+            Math.min(
+                count - start,
+                size
+            ) :
+            0;
+    }
+
+    /**
+     * Returns a mapping where the columns become rows and rows become columns.
+     */
+    MappedTableBiFunction transpose() {
+        return new MappedTableBiFunction(
+            this.cells,
+            !this.transposed,
+            this.rows,
+            this.rowStart,
+            this.rowCount,
+            this.columns,
+            this.columnStart,
+            this.columnCount
+        );
+    }
+
+    /**
+     * The underlying cells, which are never another {@link MappedTableBiFunction}.
+     */
+    private final BiFunction<Integer, Integer, CharSequence> cells;
+
+    /**
+     * When true the mapped column and row are given to the {@link #cells} as the row and column.
+     */
+    private final boolean transposed;
+
+    /**
+     * The underlying column for each column starting at {@link #columnStart}, or null for the identity.
+     */
+    private final int[] columns;
+
+    private final int columnStart;
+
+    /**
+     * The number of mapped columns, columns after are missing.
+     */
+    private final int columnCount;
+
+    /**
+     * The underlying row for each row starting at {@link #rowStart}, or null for the identity.
+     */
+    private final int[] rows;
+
+    private final int rowStart;
+
+    /**
+     * The number of mapped rows, rows after are missing.
+     */
+    private final int rowCount;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.cells.toString();
+    }
+}
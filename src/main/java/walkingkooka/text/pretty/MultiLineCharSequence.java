@@ -22,6 +22,7 @@ import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.CharSequences;
 import walkingkooka.text.LineEnding;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -42,48 +43,77 @@ final class MultiLineCharSequence implements CharSequence {
             parseCharSequence(text, lineEnding);
     }
 
+    /**
+     * Records the start and end of each line, the text of each line is only created when it is fetched, sharing the
+     * given text.
+     */
     private static MultiLineCharSequence parseCharSequence(final CharSequence text,
                                                            final LineEnding lineEnding) {
-        final List<CharSequence> lines = Lists.array();
+        int[] bounds = new int[8];
+        int count = 0;
+
         final int length = text.length();
         char previous = 0;
         int start = 0;
         int i = 0;
 
         for (; ; ) {
+            int end = -1;
+
             if (length == i) {
                 if (length != start) {
-                    lines.add(text.subSequence(start, length));
+                    end = length;
+                }
+            } else {
+                final char c = text.charAt(i);
+                switch (c) {
+                    case '\n': // NL
+                        if ('\r' != previous) {
+                            end = i; // without the NL
+                        } // else was CRNL
+                        break;
+                    case '\r': // CR
+                        end = i; // without the CR
+                        break;
+                    default:
+                        break;
+                }
+                previous = c;
+            }
+
+            if (-1 != end) {
+                if (bounds.length == count * 2) {
+                    bounds = Arrays.copyOf(
+                        bounds,
+                        bounds.length * 2
+                    );
                 }
+                bounds[count * 2] = start;
+                bounds[count * 2 + 1] = end;
+                count++;
+            }
+
+            if (length == i) {
                 break;
             }
-            final char c = text.charAt(i);
-            switch (c) {
-                case '\n': // NL
-                    if ('\r' != previous) {
-                        lines.add(text.subSequence(start, i)); // without the NL
-                    } // else was CRNL
-
-                    i++;
-                    start = i; // after the NL
-
-                    previous = c;
-                    break;
-                case '\r': // CR
-                    lines.add(text.subSequence(start, i)); // without the CR
-                    i++;
-                    start = i; // after the CR
-
-                    previous = '\r';
-                    break;
-                default:
-                    previous = c;
-                    i++;
-                    break;
+
+            i++;
+            if (-1 != end || '\n' == previous) {
+                start = i; // after the CR or NL
             }
         }
 
-        return new MultiLineCharSequence(lines, lineEnding);
+        return new MultiLineCharSequence(
+            MultiLineCharSequenceLines.with(
+                // the lines are created later so mutable text must be copied
+                text instanceof StringBuilder || text instanceof StringBuffer ?
+                    text.toString() :
+                    text,
+                bounds,
+                count
+            ),
+            lineEnding
+        );
     }
 
     static MultiLineCharSequence with(final List<CharSequence> lines,
@@ -106,6 +136,18 @@ final class MultiLineCharSequence implements CharSequence {
             lineEnding);
     }
 
+    /**
+     * Creates a {@link MultiLineCharSequence} from lines that are known to be without any line endings, the lines are
+     * not checked or copied.
+     */
+    static MultiLineCharSequence lines(final CharSequence[] lines,
+                                       final LineEnding lineEnding) {
+        return new MultiLineCharSequence(
+            Arrays.asList(lines),
+            lineEnding
+        );
+    }
+
     private MultiLineCharSequence(final List<CharSequence> lines,
                                   final LineEnding lineEnding) {
         super();
@@ -119,17 +161,24 @@ final class MultiLineCharSequence implements CharSequence {
             new MultiLineCharSequence(this.lines, lineEnding);
     }
 
-    private final LineEnding lineEnding;
+    final LineEnding lineEnding;
 
     /**
      * Returns the widest column width in characters without the line ending.
      */
     int maxWidth() {
         if (-1 == this.maxWidth) {
-            this.maxWidth = this.lines.stream()
-                .mapToInt(CharSequence::length)
-                .max()
-                .orElse(0);
+            int maxWidth = 0;
+
+            final int lineCount = this.lines.size();
+            for (int i = 0; i < lineCount; i++) {
+                maxWidth = Math.max(
+                    maxWidth,
+                    this.lineLength(i)
+                );
+            }
+
+            this.maxWidth = maxWidth;
         }
         return this.maxWidth;
     }
@@ -185,19 +234,9 @@ final class MultiLineCharSequence implements CharSequence {
 
     @Override
     public int length() {
-        if (-1 == this.length) {
-            final List<CharSequence> lines = this.lines;
-
-            this.length = lines.size() * this.lineEnding.length() +
-                lines.stream()
-                    .mapToInt(CharSequence::length)
-                    .sum();
-        }
-        return this.length;
+        return this.lineStarts()[this.lines.size()];
     }
 
-    private int length = -1;
-
     @Override
     public char charAt(final int index) {
         final int length = this.length();
@@ -206,28 +245,14 @@ final class MultiLineCharSequence implements CharSequence {
             throw new StringIndexOutOfBoundsException("Index " + index + " < 0 || >= " + length);
         }
 
-        char c = 0;
-
-        int at = index;
-        for (final CharSequence line : this.lines) {
-            final int lineLength = line.length();
-            if (at < lineLength) {
-                c = line.charAt(at);
-                break;
-            }
-            at = at - lineLength;
-
-            final LineEnding lineEnding = this.lineEnding;
-            final int lineEndingLength = lineEnding.length();
-            if (at < lineEndingLength) {
-                c = lineEnding.charAt(at);
-                break;
-            }
-
-            at = at - lineEndingLength;
-        }
+        final int lineNumber = this.lineNumber(index);
+        final CharSequence line = this.lines.get(lineNumber);
+        final int lineLength = line.length();
+        final int at = index - this.lineStarts[lineNumber];
 
-        return c;
+        return at < lineLength ?
+            line.charAt(at) :
+            this.lineEnding.charAt(at - lineLength);
     }
 
     @Override
@@ -252,32 +277,132 @@ final class MultiLineCharSequence implements CharSequence {
                 subSequence0(start, end);
     }
 
+    /**
+     * Returns the line or line ending when the range is within either, otherwise a view of the range.
+     */
     private CharSequence subSequence0(final int start,
                                       final int end) {
-        CharSequence sub = null;
+        final int lineNumber = this.lineNumber(start);
+        final int[] lineStarts = this.lineStarts;
+        final int lineStart = lineStarts[lineNumber];
+
+        final CharSequence line = this.lines.get(lineNumber);
+        final int lineLength = line.length();
+        final int lineEnd = lineStart + lineLength;
+
+        return end <= lineEnd ?
+            line.subSequence(
+                start - lineStart,
+                end - lineStart
+            ) :
+            start >= lineEnd && end <= lineStarts[lineNumber + 1] ?
+                this.lineEnding.subSequence(
+                    start - lineEnd,
+                    end - lineEnd
+                ) :
+                MultiLineCharSequenceSubSequence.with(
+                    this,
+                    start,
+                    end
+                );
+    }
 
-        int at = 0;
+    /**
+     * Appends the characters between start and end, copying each line and line ending piece in bulk.
+     */
+    void appendTo(final StringBuilder b,
+                  final int start,
+                  final int end) {
+        final int[] lineStarts = this.lineStarts();
+        final String lineEnding = this.lineEnding.toString();
+        final int lineCount = this.lines.size();
 
-        for (final CharSequence line : this.lines) {
-            final int lineLength = line.length();
-            if (start >= at && end <= at + lineLength) {
-                sub = line.subSequence(start - at, end - at);
+        for (int lineNumber = this.lineNumber(start); lineNumber < lineCount; lineNumber++) {
+            final int lineStart = lineStarts[lineNumber];
+            if (lineStart >= end) {
                 break;
             }
-            at += lineLength;
 
-            final int eolLength = this.lineEnding.length();
-            if (start >= at && end <= at + eolLength) {
-                sub = this.lineEnding.subSequence(start - at, end - at);
-                break;
+            final CharSequence line = this.lines.get(lineNumber);
+            final int lineEnd = lineStart + line.length();
+
+            final int from = Math.max(start, lineStart);
+            final int to = Math.min(end, lineEnd);
+            if (from < to) {
+                b.append(
+                    line,
+                    from - lineStart,
+                    to - lineStart
+                );
+            }
+
+            final int endingFrom = Math.max(start, lineEnd);
+            final int endingTo = Math.min(end, lineStarts[lineNumber + 1]);
+            if (endingFrom < endingTo) {
+                b.append(
+                    lineEnding,
+                    endingFrom - lineEnd,
+                    endingTo - lineEnd
+                );
+            }
+        }
+    }
+
+    /**
+     * Finds the line holding the given index using a binary search of the {@link #lineStarts()}. The last line is
+     * picked when several empty lines without line endings start at the same index.
+     */
+    private int lineNumber(final int index) {
+        final int[] lineStarts = this.lineStarts();
+
+        int low = 0;
+        int high = this.lines.size() - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (lineStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
             }
+        }
+
+        return low;
+    }
+
+    /**
+     * The index of the first character of every line, followed by the {@link #length()}.
+     */
+    private int[] lineStarts() {
+        if (null == this.lineStarts) {
+            final int lineCount = this.lines.size();
+            final int lineEndingLength = this.lineEnding.length();
+
+            final int[] lineStarts = new int[lineCount + 1];
+            int start = 0;
 
-            at += eolLength;
+            for (int i = 0; i < lineCount; i++) {
+                lineStarts[i] = start;
+                start += this.lineLength(i) + lineEndingLength;
+            }
+            lineStarts[lineCount] = start;
+
+            this.lineStarts = lineStarts;
         }
+        return this.lineStarts;
+    }
+
+    private int[] lineStarts;
+
+    /**
+     * Returns the length of the given line, without creating the line when the text was parsed.
+     */
+    private int lineLength(final int lineNumber) {
+        final List<CharSequence> lines = this.lines;
 
-        return null == sub ?
-            this.toString().substring(start, end) :
-            sub;
+        return lines instanceof MultiLineCharSequenceLines ?
+            ((MultiLineCharSequenceLines) lines).lineLength(lineNumber) :
+            lines.get(lineNumber).length();
     }
 
     // Object ..........................................................................................................
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The {@link List} of lines of a parsed {@link MultiLineCharSequence}, holding only the start and end of each line in
+ * the original text. The {@link CharSequence} for a line is only created when it is first fetched.
+ */
+final class MultiLineCharSequenceLines extends AbstractList<CharSequence> {
+
+    /**
+     * The bounds hold the start followed by the end of each line, without any line ending.
+     */
+    static MultiLineCharSequenceLines with(final CharSequence text,
+                                           final int[] bounds,
+                                           final int count) {
+        return new MultiLineCharSequenceLines(
+            text,
+            bounds,
+            count
+        );
+    }
+
+    private MultiLineCharSequenceLines(final CharSequence text,
+                                       final int[] bounds,
+                                       final int count) {
+        super();
+        this.text = text;
+        this.bounds = bounds;
+        this.count = count;
+    }
+
+    @Override
+    public CharSequence get(final int index) {
+        final int count = this.count;
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + count);
+        }
+
+        CharSequence[] lines = this.lines;
+        if (null == lines) {
+            lines = new CharSequence[count];
+            this.lines = lines;
+        }
+
+        CharSequence line = lines[index];
+        if (null == line) {
+            final int[] bounds = this.bounds;
+            line = this.text.subSequence(
+                bounds[index * 2],
+                bounds[index * 2 + 1]
+            );
+            lines[index] = line;
+        }
+        return line;
+    }
+
+    /**
+     * Returns the length of the given line without creating the line.
+     */
+    int lineLength(final int index) {
+        final int[] bounds = this.bounds;
+        return bounds[index * 2 + 1] - bounds[index * 2];
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    private final CharSequence text;
+
+    private final int[] bounds;
+
+    private final int count;
+
+    /**
+     * Lines that were already fetched.
+     */
+    private CharSequence[] lines;
+}
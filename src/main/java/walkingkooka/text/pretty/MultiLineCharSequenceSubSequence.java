@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import walkingkooka.text.CaseSensitivity;
+
+/**
+ * A {@link CharSequence} view of a range of a {@link MultiLineCharSequence} that spans more than one line, reading
+ * characters from the {@link MultiLineCharSequence} rather than copying them.
+ */
+final class MultiLineCharSequenceSubSequence implements CharSequence {
+
+    private final static CaseSensitivity CASE_SENSITIVITY = CaseSensitivity.SENSITIVE;
+
+    static MultiLineCharSequenceSubSequence with(final MultiLineCharSequence chars,
+                                                 final int start,
+                                                 final int end) {
+        return new MultiLineCharSequenceSubSequence(
+            chars,
+            start,
+            end
+        );
+    }
+
+    private MultiLineCharSequenceSubSequence(final MultiLineCharSequence chars,
+                                             final int start,
+                                             final int end) {
+        super();
+        this.chars = chars;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final int length = this.length();
+
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + index + " < 0 || >= " + length);
+        }
+
+        return this.chars.charAt(this.start + index);
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        final int length = this.length();
+
+        if (start < 0) {
+            throw new StringIndexOutOfBoundsException("Start " + start + " < 0");
+        }
+        if (start > end) {
+            throw new StringIndexOutOfBoundsException("Start " + start + " > end " + end);
+        }
+        if (end > length) {
+            throw new StringIndexOutOfBoundsException("End " + end + "> " + length);
+        }
+
+        return 0 == start && length == end ?
+            this :
+            this.chars.subSequence(
+                this.start + start,
+                this.start + end
+            );
+    }
+
+    private final MultiLineCharSequence chars;
+
+    private final int start;
+
+    private final int end;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return CASE_SENSITIVITY.hash(this);
+    }
+
+    /**
+     * Only other {@link MultiLineCharSequenceSubSequence} with the same characters are equal, so equality is symmetric
+     * just like {@link String#equals(Object)}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof MultiLineCharSequenceSubSequence &&
+                CASE_SENSITIVITY.equals(
+                    this,
+                    (CharSequence) other
+                )
+            );
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder(this.length());
+        this.chars.appendTo(
+            b,
+            this.start,
+            this.end
+        );
+        return b.toString();
+    }
+}
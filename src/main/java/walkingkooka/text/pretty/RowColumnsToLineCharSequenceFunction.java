@@ -84,10 +84,12 @@ final class RowColumnsToLineCharSequenceFunction implements Function<List<CharSe
                     "";
                 // only add padding to columns that are not the last.
                 if (c < lastColumn) {
-                    final CharSequence padded = CharSequences.padRight(columnText,
-                        rows.maxWidth(),
-                        ' ');
-                    text.append(padded);
+                    text.append(columnText);
+
+                    // pad directly into the builder rather than creating the padded text
+                    for (int i = rows.maxWidth() - columnText.length(); i > 0; i--) {
+                        text.append(' ');
+                    }
                     text.append(this.pad(c));
                 } else {
                     text.append(columnText);
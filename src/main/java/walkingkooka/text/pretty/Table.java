@@ -23,8 +23,12 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
 import java.util.stream.Collector;
 
 /**
@@ -153,35 +157,23 @@ public abstract class Table implements TreePrintable {
         );
     }
 
-    private Table setRowsNotEmpty(final int startColumn,
-                                  final int startRow,
-                                  final List<List<CharSequence>> windowText) {
+    Table setRowsNotEmpty(final int startColumn,
+                          final int startRow,
+                          final List<List<CharSequence>> windowText) {
         final TableNotEmptyListRows rows = this.rows();
-        final TableNotEmptyListRows newRows = TableNotEmptyListRows.with(
-            rows.elements.length
-        );
-
         final int height = this.height();
 
-        // copy rows before...
-        int row = 0;
-        int newWidth = this.width();
-
-        while (row < startRow) {
-            TableNotEmptyListRow rowText = null;
-
-            if (row < height) {
-                rowText = rows.get(row)
-                    .copy();
-            }
-
-            newRows.setAuto(
-                row,
-                rowText
-            );
-
-            row++;
+        // rows outside the window are shared, rows added after the last row may also share the elements
+        final TableNotEmptyListRows newRows;
+        if (startRow >= height) {
+            newRows = rows.append(startRow + windowText.size());
+        } else {
+            newRows = rows.copy();
         }
+        newRows.clearAfterLastRow();
+
+        int row = startRow;
+        int newWidth = this.width();
 
         // copy window rows...
         for (final List<CharSequence> rowText : windowText) {
@@ -242,17 +234,6 @@ public abstract class Table implements TreePrintable {
             row++;
         }
 
-        // copy rows after...
-        while (row < height) {
-            newRows.setAuto(
-                row,
-                rows.get(row)
-                    .copy()
-            );
-
-            row++;
-        }
-
         final Table table;
         if (rows.isEmpty()) {
             table = empty();
@@ -270,7 +251,7 @@ public abstract class Table implements TreePrintable {
     // setColumns.......................................................................................................
 
     /**
-     * Converts the columns of text into rows of text and then calls {@link #setRows(int, int, List)}.
+     * Presents the columns of text as rows of text without copying and then calls {@link #setRows(int, int, List)}.
      */
     public final Table setColumns(final int startColumn,
                                   final int startRow,
@@ -279,33 +260,65 @@ public abstract class Table implements TreePrintable {
         checkRow(startRow);
         checkWindowText(windowText);
 
-        final List<List<CharSequence>> rowWindowText = Lists.autoExpandArray();
-
-        int column = 0;
+        // the row views read every cell by index, so lists such as LinkedList are copied once
+        final List<List<CharSequence>> columns = Lists.array();
 
+        int height = 0;
         for (final List<CharSequence> columnText : windowText) {
+            List<CharSequence> copy = null;
+
+            if (null != columnText) {
+                copy = columnText instanceof RandomAccess ?
+                    columnText :
+                    Arrays.asList(
+                        columnText.toArray(new CharSequence[0])
+                    );
+                height = Math.max(
+                    height,
+                    copy.size()
+                );
+            }
+
+            columns.add(copy);
+        }
+
+        // the number of columns up to and including the last column with text for each row
+        final int[] rowWidths = new int[height];
+        int rowCount = 0;
+        int column = 0;
 
-            if (null != columnText && !columnText.isEmpty()) {
+        for (final List<CharSequence> columnText : columns) {
+            column++;
 
+            if (null != columnText) {
                 int row = 0;
                 for (final CharSequence cellText : columnText) {
                     if (null != cellText) {
-                        List<CharSequence> rowText = rowWindowText.get(row);
-                        if (null == rowText) {
-                            rowText = Lists.autoExpandArray();
-                        }
-                        rowWindowText.set(row, rowText);
-
-                        rowText.set(
-                            column,
-                            cellText
+                        rowWidths[row] = column;
+                        rowCount = Math.max(
+                            rowCount,
+                            row + 1
                         );
                     }
                     row++;
                 }
             }
+        }
 
-            column++;
+        final List<List<CharSequence>> rowWindowText = Lists.array();
+
+        for (int row = 0; row < rowCount; row++) {
+            final int rowWidth = rowWidths[row];
+
+            rowWindowText.add(
+                0 == rowWidth ?
+                    null :
+                    TableSetColumnsRowList.with(
+                        columns,
+                        row,
+                        rowWidth
+                    )
+            );
         }
 
         return this.setRows(
@@ -402,8 +415,8 @@ public abstract class Table implements TreePrintable {
             );
     }
 
-    private Table setSizeNotEmpty(final int width,
-                                  final int height) {
+    Table setSizeNotEmpty(final int width,
+                          final int height) {
         final Table table;
 
         final int currentWidth = this.width();
@@ -414,7 +427,7 @@ public abstract class Table implements TreePrintable {
             table = this;
         } else {
             final TableNotEmptyListRows rows = this.rows()
-                .copy();
+                .copy(); // shallow copy rows are shared
 
             int newWidth = width;
 
@@ -441,13 +454,13 @@ public abstract class Table implements TreePrintable {
         return table;
     }
 
-    private static void checkWidth(final int width) {
+    static void checkWidth(final int width) {
         if (width < 0) {
             throw new IllegalArgumentException("Invalid width " + width + " < 0");
         }
     }
 
-    private static void checkHeight(final int height) {
+    static void checkHeight(final int height) {
         if (height < 0) {
             throw new IllegalArgumentException("Invalid height " + height + " < 0");
         }
@@ -459,6 +472,10 @@ public abstract class Table implements TreePrintable {
      * Returns all the rows for the given row number.
      */
     public final List<CharSequence> row(final int row) {
+        return this.row0(row);
+    }
+
+    List<CharSequence> row0(final int row) {
         return this.rows()
             .get(row);
     }
@@ -512,6 +529,144 @@ public abstract class Table implements TreePrintable {
         }
     }
 
+    // insertRows.......................................................................................................
+
+    /**
+     * Inserts the given rows before the given row number, moving that row and all following rows down. Inserting at or
+     * after the last row is the same as {@link #setRows(int, int, List)}.
+     */
+    public final Table insertRows(final int row,
+                                  final List<List<CharSequence>> rows) {
+        checkRow(row);
+        Objects.requireNonNull(rows, "rows");
+
+        return rows.isEmpty() ?
+            this :
+            row >= this.height() ?
+                this.setRows(
+                    0,
+                    row,
+                    rows
+                ) :
+                this.insertRows0(
+                    row,
+                    rows
+                );
+    }
+
+    /**
+     * Only called when the given row is before the last row and there is at least one row to insert.
+     */
+    abstract Table insertRows0(final int row,
+                               final List<List<CharSequence>> rows);
+
+    // deleteRows.......................................................................................................
+
+    /**
+     * Deletes the rows from the given row up to but excluding the to row, moving all following rows up. Deleting rows
+     * may make the {@link Table} narrower just like {@link #setHeight(int)}.
+     */
+    public final Table deleteRows(final int from,
+                                  final int to) {
+        checkRow(from);
+        checkRange(from, to);
+
+        final int height = this.height();
+
+        return from >= height || from == to ?
+            this :
+            this.deleteRows0(
+                from,
+                Math.min(
+                    to,
+                    height
+                )
+            );
+    }
+
+    /**
+     * Only called with at least one row to delete, with both rows within this {@link Table}.
+     */
+    abstract Table deleteRows0(final int from,
+                               final int to);
+
+    // sortRows.........................................................................................................
+
+    /**
+     * Returns a view with the rows sorted using the given {@link Comparator}, without copying any rows. Rows that are
+     * equal keep their order.
+     */
+    public final Table sortRows(final Comparator<List<CharSequence>> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+
+        return TableVirtual.sortRows(
+            this,
+            comparator
+        );
+    }
+
+    /**
+     * Returns a view with the rows sorted by the text in the given column, without copying any rows. Rows with equal
+     * text keep their order.
+     */
+    public final Table sortRowsByColumn(final int column,
+                                        final Comparator<CharSequence> comparator) {
+        checkColumn(column);
+        Objects.requireNonNull(comparator, "comparator");
+
+        return TableVirtual.sortRowsByColumn(
+            this,
+            column,
+            comparator
+        );
+    }
+
+    // filterRows.......................................................................................................
+
+    /**
+     * Returns a view with only the rows that match the given {@link Predicate}, without copying any rows. The width is
+     * unchanged.
+     */
+    public final Table filterRows(final Predicate<List<CharSequence>> filter) {
+        Objects.requireNonNull(filter, "filter");
+
+        return TableVirtual.filterRows(
+            this,
+            filter
+        );
+    }
+
+    // projectColumns...................................................................................................
+
+    /**
+     * Returns a view with the given columns in the given order, without copying any cells. A column may appear more than
+     * once, and columns after the last column are empty.
+     */
+    public final Table projectColumns(final int... columns) {
+        Objects.requireNonNull(columns, "columns");
+
+        for (final int column : columns) {
+            checkColumn(column);
+        }
+
+        return TableVirtual.projectColumns(
+            this,
+            Arrays.copyOf(
+                columns,
+                columns.length
+            )
+        );
+    }
+
+    // transpose........................................................................................................
+
+    /**
+     * Returns a view where columns become rows and rows become columns, without copying any cells.
+     */
+    public final Table transpose() {
+        return TableVirtual.transpose(this);
+    }
+
     // height...........................................................................................................
 
     /**
@@ -529,19 +684,94 @@ public abstract class Table implements TreePrintable {
         );
     }
 
+    // window...........................................................................................................
+
+    /**
+     * Returns a view of the cells within the given window, without copying any cells. Cells in the window that are
+     * outside this {@link Table} are empty. Updates to the returned {@link Table} do not change this {@link Table}.
+     */
+    public final Table window(final int startColumn,
+                              final int startRow,
+                              final int width,
+                              final int height) {
+        checkColumn(startColumn);
+        checkRow(startRow);
+        checkWidth(width);
+        checkHeight(height);
+
+        return 0 == startColumn && 0 == startRow && width == this.width() && height == this.height() ?
+            this :
+            TableVirtual.window(
+                this,
+                startColumn,
+                startRow,
+                width,
+                height
+            );
+    }
+
+    /**
+     * Returns a view of the rows from the given row up to but excluding the to row.
+     */
+    public final Table rows(final int from,
+                            final int to) {
+        checkRow(from);
+        checkRange(from, to);
+
+        return this.window(
+            0,
+            from,
+            this.width(),
+            to - from
+        );
+    }
+
+    /**
+     * Returns a view of the columns from the given column up to but excluding the to column.
+     */
+    public final Table columns(final int from,
+                               final int to) {
+        checkColumn(from);
+        checkRange(from, to);
+
+        return this.window(
+            from,
+            0,
+            to - from,
+            this.height()
+        );
+    }
+
+    private static void checkRange(final int from,
+                                   final int to) {
+        if (to < from) {
+            throw new IllegalArgumentException("Invalid to " + to + " < " + from);
+        }
+    }
+
+    // compact..........................................................................................................
+
+    /**
+     * Returns a {@link Table} with the same cells, where the characters of every cell are held in a single array rather
+     * than an object for each cell. This is useful for large {@link Table tables} that are read many times.
+     */
+    public final Table compact() {
+        return ArenaTableBiFunction.table(this);
+    }
+
     // Collector........................................................................................................
 
     /**
      * Returns a {@link Collector} that adds columns to this {@link Table} starting at the given column.
      */
-    public final Collector<List<CharSequence>, Table, Table> collectColumn(final int column) {
+    public final Collector<List<CharSequence>, ?, Table> collectColumn(final int column) {
         return TableCollectorColumn.with(this, column);
     }
 
     /**
      * Returns a {@link Collector} that adds rows to this {@link Table} starting at the given row.
      */
-    public final Collector<List<CharSequence>, Table, Table> collectRow(final int row) {
+    public final Collector<List<CharSequence>, ?, Table> collectRow(final int row) {
         return TableCollectorRow.with(this, row);
     }
 
@@ -576,8 +806,9 @@ public abstract class Table implements TreePrintable {
                 printer.println("height: " + height);
             }
 
-            int row = 0;
-            for (final List<CharSequence> rowText : this.rows()) {
+            for (int row = 0; row < height; row++) {
+                final List<CharSequence> rowText = this.row(row);
+
                 printer.print("row: ");
                 printer.println(String.valueOf(row));
 
@@ -591,8 +822,6 @@ public abstract class Table implements TreePrintable {
                 }
 
                 printer.outdent();
-
-                row++;
             }
         }
         printer.outdent();
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A mutable builder that may be used to load many rows or cells into a {@link Table}. Unlike the {@link Table} setters
+ * which return a new {@link Table} for each update, rows and cells are updated in place. {@link #build()} returns a
+ * {@link Table} without copying any rows or cells. The builder may continue to be used afterwards, rows belonging to
+ * a previously built {@link Table} are copied before they are updated so that {@link Table} never changes.
+ * <br>
+ * Builders are not thread safe.
+ */
+public final class TableBuilder {
+
+    /**
+     * Creates a {@link TableBuilder} without any rows.
+     */
+    static TableBuilder empty() {
+        return new TableBuilder(
+            TableNotEmptyListRows.empty(),
+            0
+        );
+    }
+
+    /**
+     * Creates a {@link TableBuilder} starting with the rows of the given {@link Table}, which are shared until updated.
+     */
+    static TableBuilder with(final Table table) {
+        Objects.requireNonNull(table, "table");
+
+        return with(
+            table.rows(),
+            table.width()
+        );
+    }
+
+    /**
+     * Creates a {@link TableBuilder} starting with the given rows of a {@link Table} with the given width, which are
+     * shared until updated.
+     */
+    static TableBuilder with(final TableNotEmptyListRows tableRows,
+                             final int width) {
+        final TableNotEmptyListRows rows = tableRows.copy();
+
+        rows.clearAfterLastRow();
+
+        // a Table wider than its cells, such as after a Table#setWidth, keeps its width
+        return new TableBuilder(
+            rows,
+            width > rows.findWidth() ?
+                width :
+                0
+        );
+    }
+
+    private TableBuilder(final TableNotEmptyListRows rows,
+                         final int width) {
+        super();
+        this.rows = rows;
+        this.width = width;
+    }
+
+    // setCell..........................................................................................................
+
+    /**
+     * Sets or replaces the cell at the given coordinates.
+     */
+    public TableBuilder setCell(final int column,
+                                final int row,
+                                final CharSequence text) {
+        Table.checkColumn(column);
+        Table.checkRow(row);
+
+        final TableNotEmptyListRows rows = this.rows();
+        final Object owner = this.owner;
+
+        TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.element(row);
+
+        if (null == rowText) {
+            rowText = TableNotEmptyListRow.empty();
+            rowText.owner = owner;
+        } else {
+            if (owner != rowText.owner) {
+                rowText = rowText.copy();
+                rowText.owner = owner;
+            }
+        }
+
+        rowText.ensureCapacity(column);
+        rowText.setAuto(
+            column,
+            text
+        );
+
+        // like Table#setCell a row within the table without any cells becomes a missing row, without making the table narrower
+        if (0 == rowText.elementCount && row < rows.size) {
+            this.width = Math.max(
+                this.width,
+                rowText.size
+            );
+            rowText = null;
+        }
+
+        this.setRow0(
+            row,
+            rowText
+        );
+
+        return this;
+    }
+
+    // setRow...........................................................................................................
+
+    /**
+     * Sets or replaces the row at the given row number.
+     */
+    public TableBuilder setRow(final int row,
+                               final List<CharSequence> text) {
+        Table.checkRow(row);
+        Table.checkText(text);
+
+        return this.setRowText(
+            row,
+            Table.copyRowText(text)
+        );
+    }
+
+    /**
+     * Sets the row with the given {@link TableNotEmptyListRow}, which must not be shared and becomes owned by this builder.
+     */
+    TableBuilder setRowText(final int row,
+                            final TableNotEmptyListRow rowText) {
+        rowText.owner = this.owner;
+
+        this.setRow0(
+            row,
+            rowText
+        );
+
+        return this;
+    }
+
+    private void setRow0(final int row,
+                         final TableNotEmptyListRow rowText) {
+        final TableNotEmptyListRows rows = this.rows();
+
+        rows.ensureCapacity(row);
+        rows.setAuto(
+            row,
+            rowText
+        );
+    }
+
+    // setColumn........................................................................................................
+
+    /**
+     * Sets or replaces the column at the given column number, cells in rows after the end of the given text are cleared.
+     */
+    public TableBuilder setColumn(final int column,
+                                  final List<CharSequence> text) {
+        Table.checkColumn(column);
+        Table.checkText(text);
+
+        // like Table#setColumn an empty column after the last column is ignored
+        if (false == text.isEmpty() || column < this.width()) {
+            final int count = text.size();
+            final int height = Math.max(
+                this.height(),
+                count
+            );
+
+            for (int row = 0; row < height; row++) {
+                this.setCell(
+                    column,
+                    row,
+                    row < count ?
+                        text.get(row) :
+                        null
+                );
+            }
+        }
+
+        return this;
+    }
+
+    // height...........................................................................................................
+
+    /**
+     * The number of rows with 0 indicating no rows.
+     */
+    public int height() {
+        return this.rows.size;
+    }
+
+    // build............................................................................................................
+
+    /**
+     * Returns a {@link Table} with all the rows and cells set so far. The rows are not copied and become part of the
+     * returned {@link Table}, any further updates to this builder will copy rows before they are updated.
+     */
+    public Table build() {
+        final TableNotEmptyListRows rows = this.rows;
+        final int elementCount = rows.elementCount;
+        final int width = this.width();
+
+        final Table table;
+
+        if (0 == elementCount) {
+            table = Table.empty();
+        } else {
+            final Object owner = this.owner;
+
+            // shared rows never have cells after the width and are given the width when read
+            for (int r = 0; r < elementCount; r++) {
+                final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.element(r);
+                if (null != rowText && owner == rowText.owner && width != rowText.width) {
+                    rowText.setWidth(width);
+                }
+            }
+
+            table = TableNotEmpty.with(
+                rows,
+                width
+            );
+
+            // the rows and their container now belong to the Table
+            this.owner = new Object();
+            this.shared = true;
+        }
+
+        return table;
+    }
+
+    /**
+     * The width of the widest row or the minimum width, whichever is greater.
+     */
+    private int width() {
+        final TableNotEmptyListRows rows = this.rows;
+        final int elementCount = rows.elementCount;
+
+        int width = this.width;
+        for (int r = 0; r < elementCount; r++) {
+            final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.element(r);
+            if (null != rowText) {
+                width = Math.max(
+                    width,
+                    rowText.size
+                );
+            }
+        }
+
+        return width;
+    }
+
+    /**
+     * Returns the rows, copying them if they were shared with a previously built {@link Table}.
+     */
+    private TableNotEmptyListRows rows() {
+        if (this.shared) {
+            this.rows = this.rows.copy();
+            this.shared = false;
+        }
+
+        return this.rows;
+    }
+
+    /**
+     * The rows being built, the {@link TableNotEmptyListRow} not owned by this builder may be shared with a {@link Table}
+     * and must be copied before they are modified.
+     */
+    private TableNotEmptyListRows rows;
+
+    /**
+     * The minimum width of the built {@link Table}, this is set when the {@link Table} given to {@link #with(Table)}
+     * is wider than its cells or a row was cleared by {@link #setCell(int, int, CharSequence)}.
+     */
+    private int width;
+
+    /**
+     * When true {@link #rows} belongs to a {@link Table} and must be copied before it is modified.
+     */
+    private boolean shared;
+
+    /**
+     * Identifies the {@link TableNotEmptyListRow} that were created by this builder since the last {@link #build()}.
+     */
+    private Object owner = new Object();
+}
@@ -17,6 +17,7 @@
 
 package walkingkooka.text.pretty;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -27,9 +28,12 @@ import java.util.function.Supplier;
 import java.util.stream.Collector;
 
 /**
- * A {@link Collector} that adds columns or rows and returns the final {@link Table}
+ * A {@link Collector} that adds columns or rows and returns the final {@link Table}. Columns or rows are gathered in a
+ * {@link List} and then added to the {@link Table} in a single pass using a {@link TableBuilder}, rather than creating
+ * a new {@link Table} for each column or row. Parallel streams are supported, each gathers a range of columns or rows
+ * which are then combined in order.
  */
-abstract class TableCollector implements Collector<List<CharSequence>, Table, Table> {
+abstract class TableCollector implements Collector<List<CharSequence>, List<List<CharSequence>>, Table> {
 
     TableCollector(final Table table,
                    final int next) {
@@ -39,47 +43,84 @@ abstract class TableCollector implements Collector<List<CharSequence>, Table, Ta
     }
 
     @Override
-    public final Supplier<Table> supplier() {
-        return () -> this.table;
+    public final Supplier<List<List<CharSequence>>> supplier() {
+        return ArrayList::new;
     }
 
     @Override
-    public final BiConsumer<Table, List<CharSequence>> accumulator() {
+    public final BiConsumer<List<List<CharSequence>>, List<CharSequence>> accumulator() {
         return this::accumulator;
     }
 
+    private void accumulator(final List<List<CharSequence>> all,
+                             final List<CharSequence> data) {
+        Table.checkText(data);
+
+        all.add(
+            this.copy(data)
+        );
+    }
+
     /**
-     * Sub classes will either set the column or row and advance the next counter.
+     * Sub classes should copy the column or row, so later changes to the given {@link List} are ignored.
      */
-    abstract void accumulator(final Table table,
-                              final List<CharSequence> data);
+    abstract List<CharSequence> copy(final List<CharSequence> data);
 
     @Override
-    public final BinaryOperator<Table> combiner() {
+    public final BinaryOperator<List<List<CharSequence>>> combiner() {
         return this::combiner;
     }
 
     /**
-     * Parallelism not supported, so should never be called.
+     * Parallel streams accumulate consecutive columns or rows in separate {@link List lists}, which are joined in
+     * encounter order.
      */
-    private Table combiner(final Table left, final Table right) {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + " does not support parallel streams");
+    private List<List<CharSequence>> combiner(final List<List<CharSequence>> left,
+                                              final List<List<CharSequence>> right) {
+        left.addAll(right);
+        return left;
     }
 
     /**
-     * Tables are immutable just return the last {@link Table}.
+     * Adds all the columns or rows to the {@link Table} in a single pass, returning the original {@link Table} if there
+     * are none.
      */
     @Override
-    public Function<Table, Table> finisher() {
+    public final Function<List<List<CharSequence>>, Table> finisher() {
         return this::finisher;
     }
 
-    private Table finisher(final Table table) {
-        return this.table;
+    private Table finisher(final List<List<CharSequence>> all) {
+        Table table = this.table;
+
+        if (false == all.isEmpty()) {
+            final TableBuilder builder = TableBuilder.with(table);
+
+            int next = this.next;
+            for (final List<CharSequence> data : all) {
+                this.set(
+                    builder,
+                    next,
+                    data
+                );
+                next++;
+            }
+
+            table = builder.build();
+        }
+
+        return table;
     }
 
-    Table table;
-    int next;
+    /**
+     * Sub classes will either set the column or row.
+     */
+    abstract void set(final TableBuilder builder,
+                      final int columnOrRow,
+                      final List<CharSequence> data);
+
+    private final Table table;
+    private final int next;
 
     @Override
     public final Set<Characteristics> characteristics() {
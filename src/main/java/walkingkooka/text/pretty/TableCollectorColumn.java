@@ -17,6 +17,8 @@
 
 package walkingkooka.text.pretty;
 
+import walkingkooka.collect.list.Lists;
+
 import java.util.List;
 import java.util.stream.Collector;
 
@@ -39,9 +41,18 @@ final class TableCollectorColumn extends TableCollector {
     }
 
     @Override
-    void accumulator(final Table table,
-                     final List<CharSequence> column) {
-        this.table = this.table.setColumn(this.next++, column);
+    List<CharSequence> copy(final List<CharSequence> column) {
+        return Lists.immutable(column);
+    }
+
+    @Override
+    void set(final TableBuilder builder,
+             final int column,
+             final List<CharSequence> columnText) {
+        builder.setColumn(
+            column,
+            columnText
+        );
     }
 
     @Override
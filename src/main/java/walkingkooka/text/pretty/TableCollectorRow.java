@@ -39,9 +39,18 @@ final class TableCollectorRow extends TableCollector {
     }
 
     @Override
-    void accumulator(final Table table,
-                     final List<CharSequence> row) {
-        this.table = this.table.setRow(this.next++, row);
+    List<CharSequence> copy(final List<CharSequence> row) {
+        return Table.copyRowText(row);
+    }
+
+    @Override
+    void set(final TableBuilder builder,
+             final int row,
+             final List<CharSequence> rowText) {
+        builder.setRowText(
+            row,
+            (TableNotEmptyListRow) rowText
+        );
     }
 
     @Override
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * A column major copy of the cells of a {@link Table}, where each column is held in its own array. The {@link Table} rows
+ * are walked once, after which reading a column no longer locates every cell through its row.
+ * Missing cells become empty {@link String strings}, just like {@link Table#cell(int, int)}.
+ * <br>
+ * Columns are independent of each other, so a column may be read while others are being transformed.
+ */
+final class TableColumns {
+
+    /**
+     * Copies the cells of the given {@link Table} into columns, stopping after the given number of columns. The cells of
+     * a {@link TableVirtual} are computed one at a time, so only the copied columns are computed.
+     */
+    static TableColumns with(final Table table,
+                             final int count) {
+        final TableColumns columns;
+
+        if (table instanceof TableVirtual) {
+            final int width = Math.min(
+                table.width(),
+                count
+            );
+            final int height = table.height();
+
+            final CharSequence[][] cells = new CharSequence[width][height];
+
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < width; c++) {
+                    cells[c][r] = table.cell(
+                        c,
+                        r
+                    );
+                }
+            }
+
+            columns = new TableColumns(cells, height);
+        } else {
+            columns = with(
+                table.rows(),
+                table.width(),
+                table.height(),
+                count
+            );
+        }
+
+        return columns;
+    }
+
+    /**
+     * Copies the cells of the given rows into columns, stopping after the given number of columns. This allows the same
+     * rows to also be given to a {@link TableBuilder}.
+     */
+    static TableColumns with(final TableNotEmptyListRows rows,
+                             final int width,
+                             final int height,
+                             final int count) {
+        final int columnCount = Math.min(
+            width,
+            count
+        );
+
+        final CharSequence[][] columns = new CharSequence[columnCount][height];
+
+        copyRows(
+            rows,
+            columns,
+            columnCount,
+            height
+        );
+
+        return new TableColumns(columns, height);
+    }
+
+    private static void copyRows(final TableNotEmptyListRows rows,
+                                 final CharSequence[][] columns,
+                                 final int width,
+                                 final int height) {
+        for (int r = 0; r < height; r++) {
+            final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.elementOrNull(r);
+
+            for (int c = 0; c < width; c++) {
+                final CharSequence text = null != rowText ?
+                    (CharSequence) rowText.elementOrNull(c) :
+                    null;
+                columns[c][r] = null != text ?
+                    text :
+                    "";
+            }
+        }
+    }
+
+    private TableColumns(final CharSequence[][] columns,
+                         final int height) {
+        super();
+        this.columns = columns;
+        this.height = height;
+    }
+
+    /**
+     * Returns all the cells in the given column, the returned {@link List} cannot be modified.
+     */
+    List<CharSequence> column(final int column) {
+        return Lists.of(
+            this.columns[column]
+        );
+    }
+
+    /**
+     * The number of columns copied, which may be less than the width of the {@link Table}.
+     */
+    int width() {
+        return this.columns.length;
+    }
+
+    int height() {
+        return this.height;
+    }
+
+    /**
+     * The cells with the first index being the column, and the second the row.
+     */
+    private final CharSequence[][] columns;
+
+    private final int height;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (final CharSequence[] column : this.columns) {
+            b.append(separator);
+            b.append(Lists.of(column));
+            separator = ", ";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
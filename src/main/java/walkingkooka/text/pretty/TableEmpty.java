@@ -97,6 +97,18 @@ final class TableEmpty extends Table {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    Table insertRows0(final int row,
+                      final List<List<CharSequence>> rows) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    Table deleteRows0(final int from,
+                      final int to) {
+        throw new UnsupportedOperationException();
+    }
+
     // height...........................................................................................................
 
     @Override
@@ -34,7 +34,7 @@ final class TableNotEmpty extends Table {
     static TableNotEmpty withCell(final int column,
                                   final int row,
                                   final CharSequence text) {
-        final TableNotEmptyListRow rowText = TableNotEmptyListRow.with(column + 1);
+        final TableNotEmptyListRow rowText = TableNotEmptyListRow.sparse(column + 1);
         rowText.setAuto(
             column,
             text
@@ -58,11 +58,12 @@ final class TableNotEmpty extends Table {
 
         for (final CharSequence text : columnText) {
             if (isNotEmpty(text)) {
-                final TableNotEmptyListRow rowText = TableNotEmptyListRow.with(width);
+                final TableNotEmptyListRow rowText = TableNotEmptyListRow.sparse(width);
                 rowText.setAuto(
                     column,
                     text
                 );
+                rowText.setWidth(width);
 
                 rows.setAuto(
                     row,
@@ -101,14 +102,19 @@ final class TableNotEmpty extends Table {
      */
     static TableNotEmpty with(final TableNotEmptyListRows rows,
                               final int width) {
-        return new TableNotEmpty(rows, width);
+        return new TableNotEmpty(
+            rows,
+            width,
+            UNKNOWN_WIDEST_COUNT
+        );
     }
 
     /**
      * Private ctor use factory.
      */
     private TableNotEmpty(final TableNotEmptyListRows rows,
-                          final int width) {
+                          final int width,
+                          final int widestCount) {
         super();
 
         if (width < 0) {
@@ -118,6 +124,7 @@ final class TableNotEmpty extends Table {
         this.rows = rows;
         rows.missing.width = width;
         this.width = width;
+        this.widestCount = widestCount;
     }
 
     // cell.............................................................................................................
@@ -171,7 +178,7 @@ final class TableNotEmpty extends Table {
     private Table addRow(final int column,
                          final int row,
                          final CharSequence text) {
-        final TableNotEmptyListRow rowText = TableNotEmptyListRow.with(
+        final TableNotEmptyListRow rowText = TableNotEmptyListRow.sparse(
             TableNotEmptyList.computeCapacity(column)
         );
         rowText.setAuto(column, text);
@@ -231,26 +238,46 @@ final class TableNotEmpty extends Table {
     @Override
     Table setColumn1(final int column,
                      final List<CharSequence> columnText) {
-        Table after = this;
+        return this.isColumn(column, columnText) ?
+            this :
+            TableBuilder.with(this)
+                .setColumn(
+                    column,
+                    columnText
+                ).build();
+    }
 
-        final int height = Math.max(
-            this.height(),
-            columnText.size()
-        );
+    /**
+     * Tests if the column already has the given text, with missing and empty cells being equivalent.
+     */
+    private boolean isColumn(final int column,
+                             final List<CharSequence> columnText) {
+        final int height = this.height();
         final int columnTextCount = columnText.size();
 
-        // TODO implement a bulk update form.
-        for (int row = 0; row < height; row++) {
-            after = after.setCell(
-                column,
-                row,
-                row < columnTextCount ?
+        final TableNotEmptyListRows rows = this.rows;
+
+        boolean same = column < this.width() && columnTextCount <= height;
+        if (same) {
+            for (int row = 0; row < height; row++) {
+                final CharSequence text = row < columnTextCount ?
                     columnText.get(row) :
-                    null
-            );
+                    null;
+
+                final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.elementOrNull(row);
+                final Object cell = null != rowText ?
+                    rowText.elementOrNull(column) :
+                    null;
+                same = Table.isNotEmpty(text) ?
+                    text.equals(cell) :
+                    null == cell;
+                if (false == same) {
+                    break;
+                }
+            }
         }
 
-        return after;
+        return same;
     }
 
     @Override
@@ -266,7 +293,7 @@ final class TableNotEmpty extends Table {
     @Override
     Table addRow0(final int row,
                   final TableNotEmptyListRow rowText) {
-        final TableNotEmptyListRows newRows = this.rows.copy();
+        final TableNotEmptyListRows newRows = this.rows.append(row + 1);
         newRows.setAuto(
             row,
             rowText
@@ -274,16 +301,22 @@ final class TableNotEmpty extends Table {
 
         final int rowTextWidth = rowText.size;
         int width = this.width;
+        int widestCount = this.widestCount;
+
         if (rowTextWidth > width) {
-            newRows.setWidth(rowTextWidth);
             width = rowTextWidth;
+            widestCount = 1;
         } else {
-            rowText.setWidth(width);
+            if (rowTextWidth == width) {
+                widestCount = increment(widestCount);
+            }
         }
+        rowText.setWidth(width);
 
-        return with(
+        return new TableNotEmpty(
             newRows,
-            width
+            width,
+            widestCount
         );
     }
 
@@ -294,7 +327,7 @@ final class TableNotEmpty extends Table {
 
         final TableNotEmptyListRows rows = this.rows();
         final TableNotEmptyListRow previous = rows.get(row);
-        if (Objects.equals(rowText, previous)) {
+        if (null == rowText ? null == previous : null != previous && rowText.same(previous)) {
             after = this;
         } else {
             final TableNotEmptyListRows newRows = rows.copy();
@@ -305,29 +338,48 @@ final class TableNotEmpty extends Table {
             } else {
                 // different row text...
                 final int currentWidth = this.width();
+                final boolean previousWidest = previous.size == currentWidth;
+
                 int width;
+                int widestCount = this.widestCount;
 
                 if (null == rowText) {
                     width = currentWidth;
+                    if (previousWidest) {
+                        widestCount = decrement(widestCount);
+                    }
                 } else {
                     width = rowText.size;
-                    if (width >= currentWidth) {
-                        width = rowText.size;
-                        newRows.setWidth(width);
+                    if (width > currentWidth) {
+                        widestCount = 1;
                     } else {
-                        // previous row text was width
-                        if (previous.size == currentWidth) {
-                            width = newRows.findAndSetWidth();
+                        if (width == currentWidth) {
+                            if (false == previousWidest) {
+                                widestCount = increment(widestCount);
+                            }
                         } else {
-                            width = currentWidth;
-                            rowText.setWidth(width);
+                            if (previousWidest) {
+                                // only need to find the new width when the last of the widest rows became narrower
+                                widestCount = this.widestCount();
+                                if (widestCount > 1) {
+                                    widestCount--;
+                                    width = currentWidth;
+                                } else {
+                                    width = newRows.findAndSetWidth();
+                                    widestCount = UNKNOWN_WIDEST_COUNT;
+                                }
+                            } else {
+                                width = currentWidth;
+                            }
                         }
                     }
+                    rowText.setWidth(width);
                 }
 
                 after = new TableNotEmpty(
                     newRows,
-                    width
+                    width,
+                    widestCount
                 );
             }
         }
@@ -335,6 +387,154 @@ final class TableNotEmpty extends Table {
         return after;
     }
 
+    // insertRows & deleteRows.........................................................................................
+
+    /**
+     * The rows are shared, the following rows are moved down with a single copy of the row references.
+     */
+    @Override
+    Table insertRows0(final int row,
+                      final List<List<CharSequence>> rows) {
+        final TableNotEmptyListRows newRows = this.rows.insert(
+            row,
+            rows.size()
+        );
+
+        int width = this.width;
+        int widestCount = this.widestCount;
+
+        int r = row;
+        for (final List<CharSequence> text : rows) {
+            final TableNotEmptyListRow rowText = copyRowText(text);
+            newRows.setAuto(
+                r,
+                rowText
+            );
+
+            final int rowTextWidth = rowText.size;
+            if (rowTextWidth > width) {
+                width = rowTextWidth;
+                widestCount = 1;
+            } else {
+                if (rowTextWidth == width) {
+                    widestCount = increment(widestCount);
+                }
+            }
+
+            r++;
+        }
+
+        // the inserted rows are not shared so they are given the final width now rather than each time they are read
+        for (int i = row; i < r; i++) {
+            final TableNotEmptyListRow rowText = (TableNotEmptyListRow) newRows.element(i);
+            if (null != rowText && width != rowText.width) {
+                rowText.setWidth(width);
+            }
+        }
+
+        return new TableNotEmpty(
+            newRows,
+            width,
+            widestCount
+        );
+    }
+
+    /**
+     * The following rows are moved up with a single copy of the row references, the width only needs to be found again
+     * when all the widest rows were deleted.
+     */
+    @Override
+    Table deleteRows0(final int from,
+                      final int to) {
+        final TableNotEmptyListRows rows = this.rows;
+        final TableNotEmptyListRows newRows = rows.delete(
+            from,
+            to
+        );
+
+        final int currentWidth = this.width;
+
+        int deletedWidest = 0;
+        final int elementCount = Math.min(
+            rows.elementCount,
+            to
+        );
+        for (int r = from; r < elementCount; r++) {
+            final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.element(r);
+            if (null != rowText && currentWidth == rowText.size) {
+                deletedWidest++;
+            }
+        }
+
+        int width;
+        int widestCount = this.widestCount();
+        if (widestCount > deletedWidest) {
+            width = currentWidth;
+            widestCount = widestCount - deletedWidest;
+        } else {
+            width = newRows.findAndSetWidth();
+            widestCount = UNKNOWN_WIDEST_COUNT;
+        }
+
+        return 0 == width && 0 == newRows.size ?
+            empty() :
+            new TableNotEmpty(
+                newRows,
+                width,
+                widestCount
+            );
+    }
+
+    /**
+     * Returns the number of rows as wide as this {@link Table}, counting the rows the first time it is needed.
+     */
+    private int widestCount() {
+        int widestCount = this.widestCount;
+
+        if (UNKNOWN_WIDEST_COUNT == widestCount) {
+            final TableNotEmptyListRows rows = this.rows;
+            final int count = Math.min(
+                rows.elementCount,
+                rows.size
+            );
+            final int width = this.width;
+
+            widestCount = 0;
+            for (int r = 0; r < count; r++) {
+                final TableNotEmptyListRow rowText = (TableNotEmptyListRow) rows.element(r);
+                if (null != rowText && width == rowText.size) {
+                    widestCount++;
+                }
+            }
+
+            this.widestCount = widestCount;
+        }
+
+        return widestCount;
+    }
+
+    private static int increment(final int widestCount) {
+        return UNKNOWN_WIDEST_COUNT == widestCount ?
+            widestCount :
+            widestCount + 1;
+    }
+
+    private static int decrement(final int widestCount) {
+        return UNKNOWN_WIDEST_COUNT == widestCount ?
+            widestCount :
+            widestCount - 1;
+    }
+
+    /**
+     * The number of rows that are as wide as this {@link Table}, so a row that becomes narrower only needs to search
+     * every row for the new width when it was the last of the widest rows. This is counted when first needed and then
+     * updated by each new version created by {@link #addRow0(int, TableNotEmptyListRow)} or
+     * {@link #replaceRow(int, TableNotEmptyListRow)}.
+     */
+    private int widestCount;
+
+    private final static int UNKNOWN_WIDEST_COUNT = -1;
+
     // height...........................................................................................................
 
     @Override
@@ -354,11 +554,22 @@ final class TableNotEmpty extends Table {
 
     // Object...........................................................................................................
 
+    /**
+     * The hash code is remembered, with each row remembering its own hash code, so a {@link Table} that differs by one
+     * row from a hashed {@link Table} only hashes the cells of that row.
+     */
     @Override
     public int hashCode() {
-        return this.rows.hashCode();
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            hashCode = this.rows.hashCode();
+            this.hashCode = hashCode;
+        }
+        return hashCode;
     }
 
+    private int hashCode;
+
     @Override
     public boolean equals(final Object other) {
         return this == other ||
@@ -367,7 +578,21 @@ final class TableNotEmpty extends Table {
     }
 
     private boolean equals0(final Table other) {
-        return this.rows().equals(other.rows());
+        return other instanceof TableNotEmpty ?
+            this.equalsTableNotEmpty((TableNotEmpty) other) :
+            this.rows().equals(other.rows());
+    }
+
+    /**
+     * Shared rows are only compared by identity, so comparing two versions that differ by one row only compares the
+     * cells of that row.
+     */
+    private boolean equalsTableNotEmpty(final TableNotEmpty other) {
+        final int hashCode = this.hashCode;
+        final int otherHashCode = other.hashCode;
+
+        return (0 == hashCode || 0 == otherHashCode || hashCode == otherHashCode) &&
+            this.rows.equals(other.rows);
     }
 
     @GwtIncompatible
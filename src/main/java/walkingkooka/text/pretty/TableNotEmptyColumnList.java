@@ -33,12 +33,12 @@ final class TableNotEmptyColumnList extends AbstractList<CharSequence>
     implements ImmutableListDefaults<ImmutableList<CharSequence>, CharSequence> {
 
     static TableNotEmptyColumnList with(final int column,
-                                        final TableNotEmpty table) {
+                                        final Table table) {
         return new TableNotEmptyColumnList(column, table);
     }
 
     private TableNotEmptyColumnList(final int column,
-                                    final TableNotEmpty table) {
+                                    final Table table) {
         super();
         this.column = column;
         this.table = table;
@@ -59,7 +59,7 @@ final class TableNotEmptyColumnList extends AbstractList<CharSequence>
         return this.table.height();
     }
 
-    private final TableNotEmpty table;
+    private final Table table;
 
     // ImmutableList....................................................................................................
 
@@ -40,6 +40,16 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
         return min / INITIAL_CAPACITY * INITIAL_CAPACITY + INITIAL_CAPACITY;
     }
 
+    /**
+     * Lists that only need fewer elements than this are always dense.
+     */
+    final static int SPARSE_MIN_CAPACITY = 64;
+
+    /**
+     * A list that supports sparse elements becomes sparse when fewer than one in this many elements would be present.
+     */
+    final static int SPARSE_DENSITY = 4;
+
     TableNotEmptyList(final Object[] elements) {
         super();
         this.elements = elements;
@@ -47,7 +57,7 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
 
     @SuppressWarnings("unchecked")
     @Override
-    public final T get(final int index) {
+    public T get(final int index) {
         if (index < 0) {
             throw new IndexOutOfBoundsException("Invalid " + this.elementLabel() + " " + index + " < 0");
         }
@@ -56,16 +66,9 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
             throw new IndexOutOfBoundsException("Invalid " + this.elementLabel() + " " + index + " >= " + size);
         }
 
-        T element;
-
-        if (index >= this.elementCount) {
+        T element = (T) this.element(index);
+        if (null == element) {
             element = this.missing();
-        } else {
-            final Object[] elements = this.elements;
-            element = (T) elements[index];
-            if (null == element) {
-                element = this.missing();
-            }
         }
 
         return element;
@@ -88,8 +91,26 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
 
     // mutable TableNotEmpty only methods...............................................................................
 
-    @SuppressWarnings("unchecked") final void setAuto(final int index,
-                                                      final T element) {
+    void setAuto(final int index,
+                 final T element) {
+        this.hashCode = 0;
+
+        if (null != this.sparseIndices) {
+            this.setSparse(
+                index,
+                element
+            );
+        } else {
+            this.setDense(
+                index,
+                element
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setDense(final int index,
+                          final T element) {
         final Object[] elements = this.elements;
         final int elementCount = this.elementCount;
         final int size = this.size;
@@ -136,6 +157,12 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
                     size,
                     index + 1
                 );
+            } else if (this.isSparse(index)) {
+                this.toSparse();
+                this.setSparse(
+                    index,
+                    element
+                );
             } else {
                 // auto expand...
                 final Object[] newElements = new Object[computeCapacity(index)];
@@ -150,22 +177,415 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
 
                 this.elements = newElements;
                 this.elementCount = index + 1;
-                this.size = index + 1;
+                this.size = Math.max(
+                    size,
+                    index + 1
+                );
             }
         }
     }
 
     abstract boolean isMissing(final T element);
 
+    // sparse...........................................................................................................
+
+    /**
+     * Only lists that return true may become sparse, lists that return false may have their {@link #elements} read directly.
+     */
+    abstract boolean isSparseSupported();
+
+    /**
+     * Tests if setting an element at the given index, which is beyond the capacity of this dense list would leave it
+     * mostly empty.
+     */
+    private boolean isSparse(final int index) {
+        boolean sparse = false;
+
+        if (index >= SPARSE_MIN_CAPACITY && this.isSparseSupported()) {
+            final Object[] elements = this.elements;
+            final int elementCount = this.elementCount;
+
+            int count = 1;
+            for (int i = 0; i < elementCount; i++) {
+                if (null != elements[i]) {
+                    count++;
+                }
+            }
+
+            sparse = count * SPARSE_DENSITY <= index;
+        }
+
+        return sparse;
+    }
+
+    /**
+     * Converts a dense list into a sparse list, holding only the present elements and their indices.
+     */
+    private void toSparse() {
+        final Object[] elements = this.elements;
+        final int elementCount = this.elementCount;
+
+        int count = 0;
+        for (int i = 0; i < elementCount; i++) {
+            if (null != elements[i]) {
+                count++;
+            }
+        }
+
+        final int capacity = count + INITIAL_CAPACITY;
+        final int[] sparseIndices = new int[capacity];
+        final Object[] sparseElements = new Object[capacity];
+
+        int j = 0;
+        for (int i = 0; i < elementCount; i++) {
+            final Object element = elements[i];
+            if (null != element) {
+                sparseIndices[j] = i;
+                sparseElements[j] = element;
+                j++;
+            }
+        }
+
+        this.elements = sparseElements;
+        this.sparseIndices = sparseIndices;
+        this.sparseCount = count;
+        this.sparseCapacity = elements.length;
+    }
+
+    /**
+     * Converts a sparse list back into a dense list.
+     */
+    private void toDense() {
+        final int[] sparseIndices = this.sparseIndices;
+        final Object[] elements = this.elements;
+        final int sparseCount = this.sparseCount;
+
+        final Object[] newElements = new Object[this.sparseCapacity];
+        for (int j = 0; j < sparseCount; j++) {
+            newElements[sparseIndices[j]] = elements[j];
+        }
+
+        this.elements = newElements;
+        this.sparseIndices = null;
+        this.sparseCount = 0;
+    }
+
+    /**
+     * Sets an element in a sparse list. The {@link #elementCount} and {@link #size} are updated exactly like a dense list
+     * with {@link #sparseCapacity}, so both behave the same. Missing elements are removed, and once more than half of
+     * the capacity would be used the list becomes dense again.
+     */
+    private void setSparse(final int index,
+                           final T element) {
+        final int position = this.sparseIndex(index);
+        final int size = this.size;
+        final int capacity = this.sparseCapacity;
+
+        if (this.isMissing(element)) {
+            if (index < capacity) {
+                if (position >= 0) {
+                    this.removeSparse(position);
+                }
+
+                if (size - 1 == index) {
+                    final int sparseCount = this.sparseCount;
+                    this.elementCount = 0 == sparseCount ?
+                        0 :
+                        this.sparseIndices[sparseCount - 1] + 1;
+                } else {
+                    this.size = Math.max(
+                        size,
+                        index + 1
+                    );
+                }
+            } else {
+                this.size = Math.max(
+                    size,
+                    index + 1
+                );
+            }
+        } else {
+            if (position >= 0) {
+                this.elements[position] = element;
+            } else {
+                this.insertSparse(
+                    -position - 1,
+                    index,
+                    element
+                );
+            }
+
+            if (index < capacity) {
+                this.elementCount = Math.max(
+                    this.elementCount,
+                    index + 1
+                );
+                this.size = Math.max(
+                    size,
+                    index + 1
+                );
+            } else {
+                // a dense list would auto expand...
+                this.sparseCapacity = computeCapacity(index);
+                this.elementCount = index + 1;
+                this.size = Math.max(
+                    size,
+                    index + 1
+                );
+            }
+
+            if (this.sparseCount * 2 > this.sparseCapacity) {
+                this.toDense();
+            }
+        }
+    }
+
+    private void insertSparse(final int position,
+                              final int index,
+                              final Object element) {
+        int[] sparseIndices = this.sparseIndices;
+        Object[] elements = this.elements;
+        final int sparseCount = this.sparseCount;
+
+        if (sparseCount == sparseIndices.length) {
+            final int capacity = sparseCount * 2;
+
+            final int[] newSparseIndices = new int[capacity];
+            System.arraycopy(
+                sparseIndices,
+                0,
+                newSparseIndices,
+                0,
+                sparseCount
+            );
+            final Object[] newElements = new Object[capacity];
+            System.arraycopy(
+                elements,
+                0,
+                newElements,
+                0,
+                sparseCount
+            );
+
+            this.sparseIndices = sparseIndices = newSparseIndices;
+            this.elements = elements = newElements;
+        }
+
+        final int after = sparseCount - position;
+        System.arraycopy(
+            sparseIndices,
+            position,
+            sparseIndices,
+            position + 1,
+            after
+        );
+        System.arraycopy(
+            elements,
+            position,
+            elements,
+            position + 1,
+            after
+        );
+
+        sparseIndices[position] = index;
+        elements[position] = element;
+        this.sparseCount = sparseCount + 1;
+    }
+
+    private void removeSparse(final int position) {
+        final int[] sparseIndices = this.sparseIndices;
+        final Object[] elements = this.elements;
+        final int sparseCount = this.sparseCount - 1;
+
+        final int after = sparseCount - position;
+        System.arraycopy(
+            sparseIndices,
+            position + 1,
+            sparseIndices,
+            position,
+            after
+        );
+        System.arraycopy(
+            elements,
+            position + 1,
+            elements,
+            position,
+            after
+        );
+
+        elements[sparseCount] = null;
+        this.sparseCount = sparseCount;
+    }
+
+    /**
+     * Binary searches the {@link #sparseIndices} for the given index, returning its position or the negative insertion
+     * point minus one, just like {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    private int sparseIndex(final int index) {
+        final int[] sparseIndices = this.sparseIndices;
+
+        int low = 0;
+        int high = this.sparseCount - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midIndex = sparseIndices[mid];
+
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Removes all elements at or after the given index, leaving {@link #elementCount} and {@link #size} unchanged.
+     */
+    void clearFrom(final int index) {
+        this.hashCode = 0;
+
+        final Object[] elements = this.elements;
+
+        if (null != this.sparseIndices) {
+            final int sparseCount = this.sparseCount;
+
+            int position = this.sparseIndex(index);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            for (int j = position; j < sparseCount; j++) {
+                elements[j] = null;
+            }
+            this.sparseCount = position;
+        } else {
+            final int elementCount = this.elementCount;
+            for (int i = index; i < elementCount; i++) {
+                elements[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@link #elements} with the same capacity, the elements themselves are shared.
+     * GWT Object.clone() is not implemented.
+     */
+    final Object[] copyElements() {
+        final Object[] elements = this.elements;
+
+        final Object[] copy = new Object[elements.length];
+        System.arraycopy(
+            elements,
+            0,
+            copy,
+            0,
+            null != this.sparseIndices ?
+                this.sparseCount :
+                this.elementCount
+        );
+
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@link #sparseIndices} or null if this list is dense.
+     */
+    final int[] copySparseIndices() {
+        final int[] sparseIndices = this.sparseIndices;
+
+        int[] copy = null;
+        if (null != sparseIndices) {
+            copy = new int[sparseIndices.length];
+            System.arraycopy(
+                sparseIndices,
+                0,
+                copy,
+                0,
+                this.sparseCount
+            );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Grows {@link #elements} if necessary so the given index may be set without another expansion. The capacity at
+     * least doubles, so repeated appends take amortised constant time. A list that would be mostly empty becomes sparse
+     * instead.
+     */
+    void ensureCapacity(final int index) {
+        if (null != this.sparseIndices) {
+            final int capacity = this.sparseCapacity;
+            if (index >= capacity) {
+                this.sparseCapacity = Math.max(
+                    computeCapacity(index),
+                    capacity * 2
+                );
+            }
+        } else {
+            this.ensureDenseCapacity(index);
+        }
+    }
+
+    private void ensureDenseCapacity(final int index) {
+        final Object[] elements = this.elements;
+        final int length = elements.length;
+
+        if (index >= length) {
+            if (this.isSparse(index)) {
+                // rather than expanding a mostly empty list becomes sparse
+                this.toSparse();
+                this.ensureCapacity(index);
+            } else {
+                final Object[] newElements = new Object[
+                    Math.max(
+                        computeCapacity(index),
+                        length * 2
+                    )
+                ];
+                System.arraycopy(
+                    elements,
+                    0,
+                    newElements,
+                    0,
+                    this.elementCount
+                );
+                this.elements = newElements;
+            }
+        }
+    }
+
     abstract void setWidth(final int width);
 
     abstract TableNotEmptyList<T> copy();
 
     /**
-     * The elements in this {@link List}.
+     * The elements in this {@link List}. When {@link #sparseIndices} is not null the element for each index is at the
+     * same position as the index in {@link #sparseIndices}.
      */
     Object[] elements;
 
+    /**
+     * When not null this list is sparse, holding the ascending indices of the present elements, only the first
+     * {@link #sparseCount} are used.
+     */
+    int[] sparseIndices;
+
+    /**
+     * The number of present elements in a sparse list.
+     */
+    int sparseCount;
+
+    /**
+     * The capacity a sparse list would have if it were dense, used so {@link #elementCount} and {@link #size} are
+     * updated just like a dense list.
+     */
+    int sparseCapacity;
+
     /**
      * The true number of elements in {@link #elements}.
      */
@@ -176,46 +596,173 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
      */
     int size;
 
+    /**
+     * A hash code remembered by {@link TableNotEmptyListRow}, with 0 meaning not yet computed. Updates clear it.
+     */
+    int hashCode;
+
+    /**
+     * The hash code only includes elements that are not missing or empty, so equal lists always have the same hash code
+     * no matter how they were created.
+     */
     @Override
-    public final int hashCode() {
-        return Objects.hash(
-            this.elements
-        );
+    public int hashCode() {
+        int last = Math.min(
+            this.elementCount,
+            this.size
+        ) - 1;
+        while (last >= 0 && null == this.elementOrNull(last)) {
+            last--;
+        }
+
+        int hashCode = 1;
+        for (int i = 0; i <= last; i++) {
+            hashCode = 31 * hashCode + Objects.hashCode(this.elementOrNull(i));
+        }
+
+        return hashCode;
     }
 
     @Override
     public final boolean equals(final Object other) {
         return this == other ||
-            other instanceof TableNotEmptyListRow ?
-            this.equalsTableNotEmptyListRow((TableNotEmptyListRow) other) :
-            other instanceof TableNotEmptyListRows ?
-                this.equalsTableNotEmptyListRows((TableNotEmptyListRows) other) :
-                other instanceof List ?
-                    this.equalsList((List<?>) other) :
-                    false;
+            (other instanceof TableNotEmptyListRow ?
+                this.equalsTableNotEmptyListRow((TableNotEmptyListRow) other) :
+                other instanceof TableNotEmptyListRows ?
+                    this.equalsTableNotEmptyListRows((TableNotEmptyListRows) other) :
+                    other instanceof List ?
+                        this.equalsList((List<?>) other) :
+                        false);
     }
 
+    /**
+     * Compares the content of both lists, missing and empty elements are equal no matter how they are stored.
+     */
     final boolean equalsTableNotEmptyList(final TableNotEmptyList<?> other) {
-        boolean equals = false;
+        return this.size() == other.size() &&
+            this.equalsElements(other);
+    }
+
+    /**
+     * Compares the elements of both lists ignoring their sizes, missing and empty elements are equal no matter how they
+     * are stored.
+     */
+    final boolean equalsElements(final TableNotEmptyList<?> other) {
+        boolean equals = true;
+
+        final int count = Math.min(
+            Math.max(
+                this.elementCount,
+                other.elementCount
+            ),
+            Math.max(
+                this.size,
+                other.size
+            )
+        );
+
+        for (int i = 0; i < count; i++) {
+            equals = this.equalsElement(
+                this.elementOrNull(i),
+                other.elementOrNull(i)
+            );
+            if (!equals) {
+                break;
+            }
+        }
+
+        return equals;
+    }
+
+    /**
+     * Compares two elements that are not missing or empty, either of which may be null.
+     */
+    boolean equalsElement(final Object element,
+                          final Object otherElement) {
+        return Objects.equals(
+            element,
+            otherElement
+        );
+    }
+
+    /**
+     * Tests if both lists hold the same elements with the same size, unlike {@link #equals(Object)} missing and empty
+     * elements are not equivalent. This is used to detect updates that do not change anything.
+     */
+    final boolean same(final TableNotEmptyList<?> other) {
+        boolean same = false;
 
         final int count = this.elementCount;
         if (count == other.elementCount && this.size == other.size) {
-            // Gwt jre Arrays.equals(Object[], int, Object[], int, int) is not implemented.
-            final Object[] elements = this.elements;
-            final Object[] otherElements = other.elements;
-
             for (int i = 0; i < count; i++) {
-                equals = Objects.equals(
-                    elements[i],
-                    otherElements[i]
+                same = Objects.equals(
+                    this.element(i),
+                    other.element(i)
                 );
-                if (!equals) {
+                if (!same) {
                     break;
                 }
             }
         }
 
-        return equals;
+        return same;
+    }
+
+    /**
+     * Returns the element at the given index or null if it is missing or empty.
+     */
+    final Object elementOrNull(final int index) {
+        Object element = this.element(index);
+        if (null != element && this.isEmptyElement(element)) {
+            element = null;
+        }
+
+        return element;
+    }
+
+    /**
+     * Returns the element stored at the given index, which will be null if it is missing.
+     */
+    Object element(final int index) {
+        Object element = null;
+
+        if (null != this.sparseIndices) {
+            final int position = this.sparseIndex(index);
+            if (position >= 0) {
+                element = this.elements[position];
+            }
+        } else {
+            if (index < this.elementCount) {
+                element = this.elements[index];
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Tests if the given non null element is empty and equivalent to a missing element.
+     */
+    abstract boolean isEmptyElement(final Object element);
+
+    /**
+     * Returns true if all elements are missing or empty.
+     */
+    final boolean isBlank() {
+        boolean blank = true;
+
+        final int count = Math.min(
+            this.elementCount,
+            this.size
+        );
+        for (int i = 0; i < count; i++) {
+            if (null != this.elementOrNull(i)) {
+                blank = false;
+                break;
+            }
+        }
+
+        return blank;
     }
 
     abstract boolean equalsTableNotEmptyListRow(final TableNotEmptyListRow other);
@@ -226,8 +773,14 @@ abstract class TableNotEmptyList<T> extends AbstractList<T> implements Immutable
         return super.equals(other);
     }
 
-    @GwtIncompatible final String toStringTest() {
-        return this.elementCount + "/" + this.size + " " + Arrays.toString(this.elements);
+    @GwtIncompatible String toStringTest() {
+        final int[] sparseIndices = this.sparseIndices;
+
+        return this.elementCount + "/" + this.size + " " +
+            (null != sparseIndices ?
+                Arrays.toString(Arrays.copyOf(sparseIndices, this.sparseCount)) + "=" :
+                "") +
+            Arrays.toString(this.elements);
     }
 
     // ImmutableListDefaults............................................................................................
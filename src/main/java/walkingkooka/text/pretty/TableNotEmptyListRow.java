@@ -37,6 +37,24 @@ final class TableNotEmptyListRow extends TableNotEmptyList<CharSequence> {
         return new TableNotEmptyListRow(new Object[initialCapacity]);
     }
 
+    /**
+     * Creates an empty row for a few cells, such as a single cell far from the first column. A large row starts sparse
+     * rather than reserving every column before its cells, and otherwise behaves like a row with the given capacity.
+     */
+    static TableNotEmptyListRow sparse(final int capacity) {
+        final TableNotEmptyListRow row;
+
+        if (capacity < SPARSE_MIN_CAPACITY) {
+            row = with(capacity);
+        } else {
+            row = new TableNotEmptyListRow(new Object[INITIAL_CAPACITY]);
+            row.sparseIndices = new int[INITIAL_CAPACITY];
+            row.sparseCapacity = capacity;
+        }
+
+        return row;
+    }
+
     private TableNotEmptyListRow(final Object[] elements) {
         super(elements);
     }
@@ -59,6 +77,19 @@ final class TableNotEmptyListRow extends TableNotEmptyList<CharSequence> {
         return null == text || text.length() == 0;
     }
 
+    @Override
+    boolean isEmptyElement(final Object element) {
+        return this.isMissing((CharSequence) element);
+    }
+
+    /**
+     * Rows may become sparse, so a few cells scattered across a wide {@link Table} do not need a full width array.
+     */
+    @Override
+    boolean isSparseSupported() {
+        return true;
+    }
+
     @Override
     public int size() {
         return this.width;
@@ -66,14 +97,11 @@ final class TableNotEmptyListRow extends TableNotEmptyList<CharSequence> {
 
     @Override
     void setWidth(final int width) {
+        this.hashCode = 0;
         this.width = width;
 
-        final int elementCount = this.elementCount;
-
         // garbage collect deleted elements
-        for (int c = width; c < elementCount; c++) {
-            this.elements[c] = null;
-        }
+        this.clearFrom(width);
 
         this.size = Math.min(
             this.size,
@@ -83,26 +111,53 @@ final class TableNotEmptyListRow extends TableNotEmptyList<CharSequence> {
 
     int width;
 
+    /**
+     * Returns a row with the given width that shares the cells of this row without copying them. The width must not be
+     * less than the {@link #size} so no cells are lost, and neither row may be modified afterwards. This row is not
+     * changed, so rows in a {@link TableNotEmptyListRows} shared by many {@link Table tables} may be resized by each.
+     * The last resized row is remembered, so reading a row many times or from many {@link Table tables} with the same
+     * width returns the same row.
+     */
+    TableNotEmptyListRow resize(final int width) {
+        TableNotEmptyListRow resized = this.resized;
+
+        if (null == resized || width != resized.width || !this.sameCells(resized)) {
+            resized = new TableNotEmptyListRow(this.elements);
+            resized.sparseIndices = this.sparseIndices;
+            resized.sparseCount = this.sparseCount;
+            resized.sparseCapacity = this.sparseCapacity;
+            resized.size = this.size;
+            resized.elementCount = this.elementCount;
+            resized.width = width;
+            resized.hashCode = this.hashCode; // the hash code ignores the width
+            this.resized = resized;
+        }
+
+        return resized;
+    }
+
+    /**
+     * The row last returned by {@link #resize(int)}, volatile so a row resized by one thread is never seen partly
+     * built by another.
+     */
+    private volatile TableNotEmptyListRow resized;
+
+    /**
+     * The {@link TableBuilder} owner token of the builder that created this row, only that builder may modify this row
+     * and only until it builds a {@link Table}. Copies are never owned.
+     */
+    Object owner;
+
     @Override
     TableNotEmptyListRow copy() {
-        final int elementCount = this.elementCount;
-
-        // GWT Object.clone() not implemented
-        final Object[] elements = this.elements;
-        final Object[] elementsCopy = new Object[elements.length];
-
-        System.arraycopy(
-            elements,
-            0,
-            elementsCopy,
-            0,
-            elementCount
-        );
-
-        final TableNotEmptyListRow copy = new TableNotEmptyListRow(elementsCopy);
+        final TableNotEmptyListRow copy = new TableNotEmptyListRow(this.copyElements());
+        copy.sparseIndices = this.copySparseIndices();
+        copy.sparseCount = this.sparseCount;
+        copy.sparseCapacity = this.sparseCapacity;
         copy.size = this.size;
-        copy.elementCount = elementCount;
+        copy.elementCount = this.elementCount;
         copy.width = this.width;
+        copy.hashCode = this.hashCode;
         return copy;
     }
 
@@ -118,9 +173,65 @@ final class TableNotEmptyListRow extends TableNotEmptyList<CharSequence> {
         }
     }
 
+    /**
+     * Rows are shared between versions of a {@link Table} and are often hashed many times, so the hash code is
+     * remembered until the row is updated.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            hashCode = super.hashCode();
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Rows with different remembered hash codes cannot be equal, so their cells need not be compared.
+     */
     @Override
     boolean equalsTableNotEmptyListRow(final TableNotEmptyListRow other) {
-        return this.equalsTableNotEmptyList(other);
+        return this.size() == other.size() &&
+            this.equalsCells(other);
+    }
+
+    /**
+     * Compares the cells of both rows ignoring their widths, which is used by {@link TableNotEmptyListRows} as its rows
+     * may not have the width of the {@link Table} until they are read.
+     */
+    boolean equalsCells(final TableNotEmptyListRow other) {
+        final int hashCode = this.hashCode;
+        final int otherHashCode = other.hashCode;
+
+        return this.sameCells(other) ||
+            ((0 == hashCode || 0 == otherHashCode || hashCode == otherHashCode) &&
+                this.equalsElements(other));
+    }
+
+    /**
+     * Tests if both rows read the same cells, which is true of a row and its {@link #resize(int)}.
+     */
+    private boolean sameCells(final TableNotEmptyListRow other) {
+        return this.elements == other.elements &&
+            this.sparseIndices == other.sparseIndices &&
+            this.sparseCount == other.sparseCount &&
+            this.elementCount == other.elementCount &&
+            this.size == other.size;
+    }
+
+    /**
+     * Cells are compared both ways, because some {@link CharSequence} views such as
+     * {@link ArenaTableBiFunctionColumnTextCharSequence} are equal to a {@link String} but a {@link String} is never equal
+     * to them.
+     */
+    @Override
+    boolean equalsElement(final Object element,
+                          final Object otherElement) {
+        return Objects.equals(
+            element,
+            otherElement
+        ) || (null != otherElement && otherElement.equals(element));
     }
 
     @Override
@@ -17,11 +17,19 @@
 
 package walkingkooka.text.pretty;
 
+import javaemul.internal.annotations.GwtIncompatible;
+
 import java.util.List;
 import java.util.Objects;
 
 /**
- * An immutable {@link List} view of a single row, where the elements are non null {@link CharSequence}.
+ * An immutable {@link List} of rows, where the elements are {@link TableNotEmptyListRow} or null for empty rows.
+ * The individual {@link TableNotEmptyListRow} may be shared with other {@link Table tables}, and must never be modified
+ * once added, see {@link #copy()} and {@link #setWidth(int)}. Rows may have a different width
+ * to the {@link Table} until they are read.
+ * <br>
+ * Lists with at least {@link #TREE_MIN_CAPACITY} rows hold them in a {@link TableNotEmptyListRowsTree} rather than the
+ * {@link #elements}, so copying the list, setting a row of a copy, and inserting or deleting rows do not copy all rows.
  */
 final class TableNotEmptyListRows extends TableNotEmptyList<TableNotEmptyListRow> {
 
@@ -30,11 +38,41 @@ final class TableNotEmptyListRows extends TableNotEmptyList<TableNotEmptyListRow
     }
 
     static TableNotEmptyListRows with(final int initialCapacity) {
-        return new TableNotEmptyListRows(new Object[initialCapacity]);
+        return initialCapacity < TREE_MIN_CAPACITY ?
+            new TableNotEmptyListRows(
+                new Object[initialCapacity],
+                TableNotEmptyListRowsAppended.empty()
+            ) :
+            tree(
+                null,
+                new Object()
+            );
+    }
+
+    /**
+     * Creates a list holding its rows in the given {@link TableNotEmptyListRowsTree}, whose nodes may only be modified
+     * if they belong to the given owner.
+     */
+    private static TableNotEmptyListRows tree(final TableNotEmptyListRowsTree tree,
+                                              final Object owner) {
+        final TableNotEmptyListRows rows = new TableNotEmptyListRows(
+            null,
+            TableNotEmptyListRowsAppended.empty()
+        );
+        rows.tree = tree;
+        rows.owner = owner;
+        return rows;
     }
 
-    private TableNotEmptyListRows(final Object[] elements) {
+    /**
+     * Lists that need this many rows hold them in a {@link TableNotEmptyListRowsTree}.
+     */
+    final static int TREE_MIN_CAPACITY = 64;
+
+    private TableNotEmptyListRows(final Object[] elements,
+                                  final TableNotEmptyListRowsAppended appended) {
         super(elements);
+        this.appended = appended;
     }
 
     @Override
@@ -54,74 +92,666 @@ final class TableNotEmptyListRows extends TableNotEmptyList<TableNotEmptyListRow
         return null == row;
     }
 
+    /**
+     * Rows without any text are equal to missing rows.
+     */
+    @Override
+    boolean isEmptyElement(final Object element) {
+        return ((TableNotEmptyListRow) element).isBlank();
+    }
+
+    /**
+     * Rows are never sparse, many rows are held by a {@link TableNotEmptyListRowsTree} instead.
+     */
+    @Override
+    boolean isSparseSupported() {
+        return false;
+    }
+
     @Override
     public int size() {
         return this.size;
     }
 
+    /**
+     * Rows that are not as wide as the {@link Table}, because the {@link Table} became wider after they were added, are
+     * returned as a row with the width of the {@link Table} sharing the cells of the stored row. Nothing is written back,
+     * because the {@link #elements} may be shared with other versions of the {@link Table} with a different width, instead
+     * the stored row remembers its resized row so reading it again returns the same row.
+     */
+    @Override
+    public TableNotEmptyListRow get(final int index) {
+        final TableNotEmptyListRow row = super.get(index);
+
+        final int width = this.missing.width;
+        return width != row.width ?
+            row.resize(width) :
+            row;
+    }
+
+    /**
+     * Updates the width of all rows. Rows are not updated when the width increases, they are given the new width when
+     * read by {@link #get(int)}. When the width decreases rows with cells after the new width are replaced by a copy
+     * without those cells, because they may be shared with other {@link Table tables}.
+     */
     @Override
     void setWidth(final int width) {
+        final boolean narrower = width < this.missing.width;
         this.missing.setWidth(width);
 
-        for (int r = 0; r < this.elementCount; r++) {
-            final TableNotEmptyListRow row = (TableNotEmptyListRow) this.elements[r];
-            if (null != row) {
-                row.setWidth(width);
+        if (narrower) {
+            for (int r = 0; r < this.elementCount; r++) {
+                final TableNotEmptyListRow row = (TableNotEmptyListRow) this.element(r);
+                if (null != row && row.size > width) {
+                    final TableNotEmptyListRow copy = row.copy();
+                    copy.setWidth(width);
+                    this.replaceRow(
+                        r,
+                        copy
+                    );
+                }
             }
         }
     }
 
+    /**
+     * Replaces a row without updating the {@link #elementCount} or {@link #size}.
+     */
+    private void replaceRow(final int index,
+                            final TableNotEmptyListRow row) {
+        final Object[] elements = this.elements;
+
+        if (null != elements) {
+            elements[index] = row;
+        } else {
+            this.tree = TableNotEmptyListRowsTree.set(
+                this.tree,
+                index,
+                row,
+                this.owner
+            );
+        }
+    }
+
     int findAndSetWidth() {
+        final int width = this.findWidth();
+        this.setWidth(width);
+
+        return width;
+    }
+
+    /**
+     * Returns the width of the widest row ignoring any trailing missing cells.
+     */
+    int findWidth() {
         int width = 0;
 
-        int row = this.size;
-        for (final Object element : this.elements) {
-            if (row <= 0) {
-                break;
-            }
-            if (element instanceof TableNotEmptyListRow) {
-                final TableNotEmptyListRow tableRow = (TableNotEmptyListRow) element;
-                width = Math.max(width, tableRow.size);
+        final int count = Math.min(
+            this.elementCount,
+            this.size
+        );
+        for (int r = 0; r < count; r++) {
+            final TableNotEmptyListRow row = (TableNotEmptyListRow) this.element(r);
+            if (null != row) {
+                width = Math.max(width, row.size);
             }
-
-            row--;
         }
 
-        this.setWidth(width);
-
         return width;
     }
 
+    /**
+     * Returns a shallow copy, the rows themselves are shared and not copied. A list holding its rows in a
+     * {@link TableNotEmptyListRowsTree} shares the tree.
+     */
     @Override
     TableNotEmptyListRows copy() {
         final Object[] elements = this.elements;
+
+        return this.copy(
+            null != elements ?
+                elements.length :
+                TREE_MIN_CAPACITY
+        );
+    }
+
+    private TableNotEmptyListRows copy(final int capacity) {
         final int elementCount = this.elementCount;
 
-        final Object[] newElements = new Object[elements.length];
-        for (int i = 0; i < elementCount; i++) {
-            final Object element = elements[i];
-            if (element instanceof TableNotEmptyListRow) {
-                final TableNotEmptyListRow row = (TableNotEmptyListRow) element;
-                newElements[i] = row.copy();
-            }
+        final TableNotEmptyListRows copy;
+        if (capacity < TREE_MIN_CAPACITY) {
+            // GWT Object.clone() not implemented
+            final Object[] newElements = new Object[capacity];
+            System.arraycopy(
+                this.elements,
+                0,
+                newElements,
+                0,
+                elementCount
+            );
+
+            copy = new TableNotEmptyListRows(
+                newElements,
+                TableNotEmptyListRowsAppended.empty()
+            );
+        } else {
+            final Object owner = new Object();
+            copy = tree(
+                this.shareTree(owner),
+                owner
+            );
         }
 
-        final TableNotEmptyListRows copy = new TableNotEmptyListRows(newElements);
         copy.size = this.size;
         copy.elementCount = elementCount;
         copy.missing.width = this.missing.width;
         return copy;
     }
 
+    /**
+     * Returns a list that may have rows added after the last row up to the given height. The elements are shared
+     * rather than copied when they have room for the new rows and no other list has already added rows after the last
+     * row, so a {@link Table} that grows by adding rows at the end does not copy all its rows each time.
+     */
+    TableNotEmptyListRows append(final int height) {
+        final Object[] elements = this.elements;
+        final int elementCount = this.elementCount;
+
+        final TableNotEmptyListRows append;
+
+        if (null == elements) {
+            append = this.copy();
+        } else if (elementCount <= this.size && height <= elements.length && this.appended.claim(elementCount, height)) {
+            append = new TableNotEmptyListRows(
+                elements,
+                this.appended
+            );
+            append.size = this.size;
+            append.elementCount = elementCount;
+            append.missing.width = this.missing.width;
+        } else {
+            append = this.copy(
+                Math.max(
+                    computeCapacity(height),
+                    elements.length * 2
+                )
+            );
+        }
+
+        return append;
+    }
+
+    /**
+     * Records the elements claimed by {@link #append(int)}, shared by all lists with the same {@link #elements}.
+     */
+    private final TableNotEmptyListRowsAppended appended;
+
+    /**
+     * Returns a copy with the given number of missing rows inserted before the given row, the rows are shared and only
+     * moved. Rows after the last row are not copied.
+     */
+    TableNotEmptyListRows insert(final int row,
+                                 final int count) {
+        final Object[] elements = this.elements;
+        final int size = this.size;
+        final int elementCount = Math.min(
+            this.elementCount,
+            size
+        );
+
+        final int capacity = null != elements ?
+            Math.max(
+                elements.length,
+                computeCapacity(elementCount + count)
+            ) :
+            TREE_MIN_CAPACITY;
+
+        return capacity < TREE_MIN_CAPACITY ?
+            this.insertElements(
+                row,
+                count,
+                elementCount,
+                capacity
+            ) :
+            this.insertTree(
+                row,
+                count,
+                elementCount
+            );
+    }
+
+    private TableNotEmptyListRows insertElements(final int row,
+                                                 final int count,
+                                                 final int elementCount,
+                                                 final int capacity) {
+        final Object[] elements = this.elements;
+        final Object[] newElements = new Object[capacity];
+
+        int newElementCount = elementCount;
+        if (row < elementCount) {
+            System.arraycopy(
+                elements,
+                0,
+                newElements,
+                0,
+                row
+            );
+            System.arraycopy(
+                elements,
+                row,
+                newElements,
+                row + count,
+                elementCount - row
+            );
+            newElementCount = elementCount + count;
+        } else {
+            System.arraycopy(
+                elements,
+                0,
+                newElements,
+                0,
+                elementCount
+            );
+        }
+
+        final TableNotEmptyListRows insert = new TableNotEmptyListRows(
+            newElements,
+            TableNotEmptyListRowsAppended.empty()
+        );
+        insert.size = this.size + count;
+        insert.elementCount = newElementCount;
+        insert.missing.width = this.missing.width;
+        return insert;
+    }
+
+    /**
+     * Inserts the missing rows by splitting the {@link TableNotEmptyListRowsTree}, which only copies the nodes along
+     * the split.
+     */
+    private TableNotEmptyListRows insertTree(final int row,
+                                             final int count,
+                                             final int elementCount) {
+        final Object owner = new Object();
+        TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.take(
+            this.shareTree(owner),
+            elementCount
+        );
+
+        int newElementCount = elementCount;
+        if (row < elementCount) {
+            // split before merging, which may update nodes of the tree
+            final TableNotEmptyListRowsTree before = TableNotEmptyListRowsTree.take(
+                tree,
+                row
+            );
+            final TableNotEmptyListRowsTree after = TableNotEmptyListRowsTree.drop(
+                tree,
+                row
+            );
+
+            tree = TableNotEmptyListRowsTree.merge(
+                TableNotEmptyListRowsTree.merge(
+                    before,
+                    TableNotEmptyListRowsTree.missing(count),
+                    owner
+                ),
+                after,
+                owner
+            );
+            newElementCount = elementCount + count;
+        }
+
+        final TableNotEmptyListRows insert = tree(
+            tree,
+            owner
+        );
+        insert.size = this.size + count;
+        insert.elementCount = newElementCount;
+        insert.missing.width = this.missing.width;
+        return insert;
+    }
+
+    /**
+     * Returns a copy without the rows from the given row up to but excluding the to row, the remaining rows are shared
+     * and only moved. Rows after the last row are not copied.
+     */
+    TableNotEmptyListRows delete(final int from,
+                                 final int to) {
+        final int elementCount = Math.min(
+            this.elementCount,
+            this.size
+        );
+
+        return null != this.elements ?
+            this.deleteElements(
+                from,
+                to,
+                elementCount
+            ) :
+            this.deleteTree(
+                from,
+                to,
+                elementCount
+            );
+    }
+
+    private TableNotEmptyListRows deleteElements(final int from,
+                                                 final int to,
+                                                 final int elementCount) {
+        final Object[] elements = this.elements;
+        final int count = to - from;
+
+        final Object[] newElements = new Object[elements.length];
+
+        int newElementCount;
+        if (from < elementCount) {
+            System.arraycopy(
+                elements,
+                0,
+                newElements,
+                0,
+                from
+            );
+
+            if (to < elementCount) {
+                System.arraycopy(
+                    elements,
+                    to,
+                    newElements,
+                    from,
+                    elementCount - to
+                );
+                newElementCount = elementCount - count;
+            } else {
+                newElementCount = from;
+            }
+        } else {
+            System.arraycopy(
+                elements,
+                0,
+                newElements,
+                0,
+                elementCount
+            );
+            newElementCount = elementCount;
+        }
+
+        final TableNotEmptyListRows delete = new TableNotEmptyListRows(
+            newElements,
+            TableNotEmptyListRowsAppended.empty()
+        );
+        delete.size = this.size - count;
+        delete.elementCount = newElementCount;
+        delete.missing.width = this.missing.width;
+        return delete;
+    }
+
+    /**
+     * Deletes the rows by splitting the {@link TableNotEmptyListRowsTree} before and after them, which only copies the
+     * nodes along both splits.
+     */
+    private TableNotEmptyListRows deleteTree(final int from,
+                                             final int to,
+                                             final int elementCount) {
+        final Object owner = new Object();
+        TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.take(
+            this.shareTree(owner),
+            elementCount
+        );
+
+        int newElementCount = elementCount;
+        if (from < elementCount) {
+            // split before merging, which may update nodes of the tree
+            final TableNotEmptyListRowsTree before = TableNotEmptyListRowsTree.take(
+                tree,
+                from
+            );
+            final TableNotEmptyListRowsTree after = TableNotEmptyListRowsTree.drop(
+                tree,
+                to
+            );
+
+            tree = TableNotEmptyListRowsTree.merge(
+                before,
+                after,
+                owner
+            );
+            newElementCount = to < elementCount ?
+                elementCount - (to - from) :
+                from;
+        }
+
+        final TableNotEmptyListRows delete = tree(
+            tree,
+            owner
+        );
+        delete.size = this.size - (to - from);
+        delete.elementCount = newElementCount;
+        delete.missing.width = this.missing.width;
+        return delete;
+    }
+
+    /**
+     * Returns the rows as a {@link TableNotEmptyListRowsTree} to be shared with a new list with the given owner. A
+     * list already holding a tree gives up ownership of its nodes, so neither list modifies nodes the other can read.
+     */
+    private TableNotEmptyListRowsTree shareTree(final Object owner) {
+        final TableNotEmptyListRowsTree tree;
+
+        final Object[] elements = this.elements;
+        if (null != elements) {
+            tree = TableNotEmptyListRowsTree.with(
+                elements,
+                this.elementCount,
+                owner
+            );
+        } else {
+            tree = this.tree;
+            this.owner = new Object();
+        }
+
+        return tree;
+    }
+
+    /**
+     * Replaces the {@link #elements} with a {@link TableNotEmptyListRowsTree} holding the same rows.
+     */
+    private void toTree() {
+        final Object owner = new Object();
+
+        this.tree = this.shareTree(owner);
+        this.owner = owner;
+        this.elements = null;
+    }
+
+    /**
+     * The rows when there are too many for the {@link #elements}, which will then be null.
+     */
+    TableNotEmptyListRowsTree tree;
+
+    /**
+     * The token given to the nodes of the {@link #tree} that this list may modify.
+     */
+    private Object owner;
+
+    // TableNotEmptyList................................................................................................
+
+    @Override
+    void setAuto(final int index,
+                 final TableNotEmptyListRow row) {
+        if (null != this.elements && index >= TREE_MIN_CAPACITY && null != row) {
+            this.toTree();
+        }
+
+        if (null != this.elements) {
+            super.setAuto(
+                index,
+                row
+            );
+        } else {
+            this.setTree(
+                index,
+                row
+            );
+        }
+    }
+
+    /**
+     * Sets a row just like a list holding {@link #elements}, a missing row after the last row only updates the
+     * {@link #size}.
+     */
+    private void setTree(final int index,
+                         final TableNotEmptyListRow row) {
+        this.hashCode = 0;
+
+        final Object owner = this.owner;
+        final int size = this.size;
+
+        TableNotEmptyListRowsTree tree = this.tree;
+        final int count = TableNotEmptyListRowsTree.count(tree);
+
+        if (null == row) {
+            if (index < count) {
+                tree = TableNotEmptyListRowsTree.set(
+                    tree,
+                    index,
+                    null,
+                    owner
+                );
+            }
+
+            if (size - 1 == index) {
+                // the last row has become missing, find the last present row
+                int newElementCount = this.elementCount - 1;
+                while (newElementCount >= 0 && null == TableNotEmptyListRowsTree.get(tree, newElementCount)) {
+                    newElementCount--;
+                }
+
+                this.elementCount = newElementCount + 1;
+            } else {
+                this.size = Math.max(
+                    size,
+                    index + 1
+                );
+            }
+        } else {
+            if (index >= count) {
+                // add at least a chunk, so rows added one at a time fill each chunk
+                tree = TableNotEmptyListRowsTree.merge(
+                    tree,
+                    TableNotEmptyListRowsTree.missing(
+                        Math.max(
+                            index + 1 - count,
+                            TableNotEmptyListRowsTree.CHUNK_SIZE
+                        )
+                    ),
+                    owner
+                );
+            }
+
+            tree = TableNotEmptyListRowsTree.set(
+                tree,
+                index,
+                row,
+                owner
+            );
+
+            this.elementCount = Math.max(
+                this.elementCount,
+                index + 1
+            );
+            this.size = Math.max(
+                size,
+                index + 1
+            );
+        }
+
+        this.tree = tree;
+    }
+
+    @Override
+    void clearFrom(final int index) {
+        if (null != this.elements) {
+            super.clearFrom(index);
+        } else {
+            this.hashCode = 0;
+            this.tree = TableNotEmptyListRowsTree.take(
+                this.tree,
+                index
+            );
+        }
+    }
+
+    /**
+     * A list holding a {@link TableNotEmptyListRowsTree} grows when a row is set.
+     */
+    @Override
+    void ensureCapacity(final int index) {
+        if (null != this.elements) {
+            if (index >= TREE_MIN_CAPACITY) {
+                this.toTree();
+            } else {
+                super.ensureCapacity(index);
+            }
+        }
+    }
+
+    @Override
+    Object element(final int index) {
+        return null != this.elements ?
+            super.element(index) :
+            index < this.elementCount ?
+                TableNotEmptyListRowsTree.get(
+                    this.tree,
+                    index
+                ) :
+                null;
+    }
+
+    @GwtIncompatible
+    @Override
+    String toStringTest() {
+        return null != this.elements ?
+            super.toStringTest() :
+            this.elementCount + "/" + this.size + " " + this.tree;
+    }
+
+    /**
+     * Clears any rows after the last row, which remain after a {@link Table#setHeight(int)}, so they do not reappear.
+     */
+    void clearAfterLastRow() {
+        final int size = this.size;
+        if (this.elementCount > size) {
+            this.clearFrom(size);
+            this.elementCount = size;
+        }
+    }
 
     @Override
     boolean equalsTableNotEmptyListRow(final TableNotEmptyListRow other) {
         return false;
     }
 
+    /**
+     * Rows are compared ignoring their own widths, which may differ until they are read, {@link Table tables} with
+     * different widths are only equal when all their rows are empty.
+     */
     @Override
     boolean equalsTableNotEmptyListRows(final TableNotEmptyListRows other) {
-        return this.equalsTableNotEmptyList(other);
+        return this.equalsTableNotEmptyList(other) &&
+            (this.missing.width == other.missing.width || this.isBlank());
+    }
+
+    /**
+     * Rows are usually shared between versions of a {@link Table}, or are a {@link TableNotEmptyListRow#resize(int)} of
+     * the same row sharing its cells, so the cells are only compared when the rows are not the same.
+     */
+    @Override
+    boolean equalsElement(final Object element,
+                          final Object otherElement) {
+        return element == otherElement ||
+            (null != element && null != otherElement &&
+                ((TableNotEmptyListRow) element).equalsCells((TableNotEmptyListRow) otherElement));
     }
 
     // ImmutableListDefaults............................................................................................
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+/**
+ * Shared by all {@link TableNotEmptyListRows} with the same elements, recording how many elements have been claimed
+ * by {@link TableNotEmptyListRows#append(int)}. Only one list may add rows after any given row, any other list must
+ * copy the elements.
+ */
+final class TableNotEmptyListRowsAppended {
+
+    static TableNotEmptyListRowsAppended empty() {
+        return new TableNotEmptyListRowsAppended();
+    }
+
+    private TableNotEmptyListRowsAppended() {
+        super();
+    }
+
+    /**
+     * Claims the elements from the first index up to but excluding the second, returning false if any of them were
+     * already claimed.
+     */
+    synchronized boolean claim(final int from,
+                               final int to) {
+        final boolean claimed = this.count <= from;
+        if (claimed) {
+            this.count = to;
+        }
+        return claimed;
+    }
+
+    /**
+     * The number of elements claimed so far.
+     */
+    private int count;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.count);
+    }
+}
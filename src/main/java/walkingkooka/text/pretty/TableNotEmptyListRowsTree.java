@@ -0,0 +1,513 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.Random;
+
+/**
+ * Holds the rows of a large {@link TableNotEmptyListRows} in chunks of up to {@link #CHUNK_SIZE} rows, so a
+ * {@link Table} with many rows may be copied without copying its rows. Each node holds a chunk, and the nodes are
+ * ordered by row and balanced as a treap using random priorities, so reading or setting a row, or inserting and
+ * deleting rows only visits a logarithmic number of nodes. A tree without any rows is null, which is why most methods
+ * are static.
+ * <br>
+ * Nodes are shared between lists and may only be modified by the list holding their owner token, any other list
+ * copies a node before modifying it. Nodes created by {@link #missing(int)}, or when splitting or merging trees, may
+ * share their chunk with other nodes and have no owner.
+ */
+final class TableNotEmptyListRowsTree {
+
+    /**
+     * The maximum number of rows in a chunk.
+     */
+    final static int CHUNK_SIZE = 32;
+
+    /**
+     * Creates a tree holding a copy of the given rows, the new nodes are owned by the given owner.
+     */
+    static TableNotEmptyListRowsTree with(final Object[] elements,
+                                          final int count,
+                                          final Object owner) {
+        return build(
+            elements,
+            count,
+            owner
+        );
+    }
+
+    /**
+     * Creates a tree holding the given number of missing rows, the nodes share a single empty chunk.
+     */
+    static TableNotEmptyListRowsTree missing(final int count) {
+        return build(
+            null,
+            count,
+            null
+        );
+    }
+
+    /**
+     * Builds the treap for new nodes in a single pass, keeping the nodes on the right edge of the tree in a stack.
+     * Each new node becomes the right child of the last node with a greater priority, and adopts the nodes with a
+     * lower priority as its left child.
+     */
+    private static TableNotEmptyListRowsTree build(final Object[] elements,
+                                                   final int count,
+                                                   final Object owner) {
+        final TableNotEmptyListRowsTree[] stack = new TableNotEmptyListRowsTree[(count + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        int top = 0;
+
+        final Object[] missing = null == elements ?
+            new Object[CHUNK_SIZE] :
+            null;
+
+        for (int start = 0; start < count; start += CHUNK_SIZE) {
+            final int chunkCount = Math.min(
+                count - start,
+                CHUNK_SIZE
+            );
+
+            Object[] chunk = missing;
+            if (null == chunk) {
+                chunk = new Object[CHUNK_SIZE];
+                System.arraycopy(
+                    elements,
+                    start,
+                    chunk,
+                    0,
+                    chunkCount
+                );
+            }
+
+            final TableNotEmptyListRowsTree node = new TableNotEmptyListRowsTree(
+                null,
+                null,
+                chunk,
+                chunkCount,
+                PRIORITIES.nextInt(),
+                owner
+            );
+
+            TableNotEmptyListRowsTree left = null;
+            while (top > 0 && stack[top - 1].priority < node.priority) {
+                top--;
+                left = stack[top];
+            }
+            node.left = left;
+
+            if (top > 0) {
+                stack[top - 1].right = node;
+            }
+            stack[top] = node;
+            top++;
+        }
+
+        final TableNotEmptyListRowsTree tree = 0 == top ?
+            null :
+            stack[0];
+        recount(tree);
+        return tree;
+    }
+
+    private static int recount(final TableNotEmptyListRowsTree tree) {
+        int count = 0;
+
+        if (null != tree) {
+            count = recount(tree.left) + tree.chunkCount + recount(tree.right);
+            tree.count = count;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of rows in the given tree.
+     */
+    static int count(final TableNotEmptyListRowsTree tree) {
+        return null != tree ?
+            tree.count :
+            0;
+    }
+
+    /**
+     * The number of nodes on the longest path from the root, used by tests.
+     */
+    static int depth(final TableNotEmptyListRowsTree tree) {
+        return null != tree ?
+            1 + Math.max(
+                depth(tree.left),
+                depth(tree.right)
+            ) :
+            0;
+    }
+
+    /**
+     * Returns the row at the given index or null if it is missing or after the last row.
+     */
+    static Object get(final TableNotEmptyListRowsTree tree,
+                      final int index) {
+        Object element = null;
+
+        TableNotEmptyListRowsTree node = tree;
+        int i = index;
+
+        while (null != node) {
+            final int leftCount = count(node.left);
+
+            if (i < leftCount) {
+                node = node.left;
+            } else {
+                i -= leftCount;
+
+                final int chunkCount = node.chunkCount;
+                if (i < chunkCount) {
+                    element = node.chunk[i];
+                    break;
+                }
+                i -= chunkCount;
+                node = node.right;
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Sets the row at the given index, which must be within the tree, returning the updated tree. Nodes belonging to
+     * the given owner are updated, others are copied along with the path to them.
+     */
+    static TableNotEmptyListRowsTree set(final TableNotEmptyListRowsTree tree,
+                                         final int index,
+                                         final Object element,
+                                         final Object owner) {
+        final TableNotEmptyListRowsTree node = owner == tree.owner ?
+            tree :
+            new TableNotEmptyListRowsTree(
+                tree.left,
+                tree.right,
+                tree.copyChunk(0),
+                tree.chunkCount,
+                tree.priority,
+                owner
+            );
+
+        final int leftCount = count(node.left);
+        if (index < leftCount) {
+            node.left = set(
+                node.left,
+                index,
+                element,
+                owner
+            );
+        } else {
+            final int i = index - leftCount;
+            final int chunkCount = node.chunkCount;
+
+            if (i < chunkCount) {
+                node.chunk[i] = element;
+            } else {
+                node.right = set(
+                    node.right,
+                    i - chunkCount,
+                    element,
+                    owner
+                );
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns a tree holding the first count rows.
+     */
+    static TableNotEmptyListRowsTree take(final TableNotEmptyListRowsTree tree,
+                                          final int count) {
+        final TableNotEmptyListRowsTree take;
+
+        if (null == tree || count <= 0) {
+            take = null;
+        } else {
+            if (count >= tree.count) {
+                take = tree;
+            } else {
+                final int leftCount = count(tree.left);
+
+                if (count <= leftCount) {
+                    take = take(
+                        tree.left,
+                        count
+                    );
+                } else {
+                    final int chunkCount = count - leftCount;
+
+                    // the chunk is shared, only the rows before the chunk count are read
+                    take = chunkCount <= tree.chunkCount ?
+                        new TableNotEmptyListRowsTree(
+                            tree.left,
+                            null,
+                            tree.chunk,
+                            chunkCount,
+                            tree.priority,
+                            null
+                        ) :
+                        new TableNotEmptyListRowsTree(
+                            tree.left,
+                            take(
+                                tree.right,
+                                chunkCount - tree.chunkCount
+                            ),
+                            tree.chunk,
+                            tree.chunkCount,
+                            tree.priority,
+                            null
+                        );
+                }
+            }
+        }
+
+        return take;
+    }
+
+    /**
+     * Returns a tree without the first count rows.
+     */
+    static TableNotEmptyListRowsTree drop(final TableNotEmptyListRowsTree tree,
+                                          final int count) {
+        final TableNotEmptyListRowsTree drop;
+
+        if (null == tree || count <= 0) {
+            drop = tree;
+        } else {
+            if (count >= tree.count) {
+                drop = null;
+            } else {
+                final int leftCount = count(tree.left);
+
+                if (count <= leftCount) {
+                    drop = new TableNotEmptyListRowsTree(
+                        drop(
+                            tree.left,
+                            count
+                        ),
+                        tree.right,
+                        tree.chunk,
+                        tree.chunkCount,
+                        tree.priority,
+                        null
+                    );
+                } else {
+                    final int skip = count - leftCount;
+                    final int chunkCount = tree.chunkCount;
+
+                    drop = skip < chunkCount ?
+                        new TableNotEmptyListRowsTree(
+                            null,
+                            tree.right,
+                            tree.copyChunk(skip),
+                            chunkCount - skip,
+                            tree.priority,
+                            null
+                        ) :
+                        drop(
+                            tree.right,
+                            skip - chunkCount
+                        );
+                }
+            }
+        }
+
+        return drop;
+    }
+
+    /**
+     * Returns a tree holding the rows of the first tree followed by the rows of the second. Nodes belonging to the given
+     * owner are updated, others are copied, so a tree split into both trees must not be read afterwards.
+     */
+    static TableNotEmptyListRowsTree merge(final TableNotEmptyListRowsTree first,
+                                           final TableNotEmptyListRowsTree second,
+                                           final Object owner) {
+        final TableNotEmptyListRowsTree merge;
+
+        if (null == first) {
+            merge = second;
+        } else {
+            if (null == second) {
+                merge = first;
+            } else {
+                if (first.priority >= second.priority) {
+                    final TableNotEmptyListRowsTree right = merge(
+                        first.right,
+                        second,
+                        owner
+                    );
+
+                    if (owner == first.owner) {
+                        first.right = right;
+                        first.updateCount();
+                        merge = first;
+                    } else {
+                        merge = new TableNotEmptyListRowsTree(
+                            first.left,
+                            right,
+                            first.chunk,
+                            first.chunkCount,
+                            first.priority,
+                            null
+                        );
+                    }
+                } else {
+                    final TableNotEmptyListRowsTree left = merge(
+                        first,
+                        second.left,
+                        owner
+                    );
+
+                    if (owner == second.owner) {
+                        second.left = left;
+                        second.updateCount();
+                        merge = second;
+                    } else {
+                        merge = new TableNotEmptyListRowsTree(
+                            left,
+                            second.right,
+                            second.chunk,
+                            second.chunkCount,
+                            second.priority,
+                            null
+                        );
+                    }
+                }
+            }
+        }
+
+        return merge;
+    }
+
+    /**
+     * Updates the {@link #count} after a child was replaced.
+     */
+    private void updateCount() {
+        this.count = count(this.left) + this.chunkCount + count(this.right);
+    }
+
+    /**
+     * Used to give new nodes a random priority, J2CL also supports {@link Random}.
+     */
+    private final static Random PRIORITIES = new Random();
+
+    private TableNotEmptyListRowsTree(final TableNotEmptyListRowsTree left,
+                                      final TableNotEmptyListRowsTree right,
+                                      final Object[] chunk,
+                                      final int chunkCount,
+                                      final int priority,
+                                      final Object owner) {
+        super();
+        this.left = left;
+        this.right = right;
+        this.chunk = chunk;
+        this.chunkCount = chunkCount;
+        this.priority = priority;
+        this.owner = owner;
+        this.updateCount();
+    }
+
+    /**
+     * Returns a new chunk with the rows of this chunk starting at the given position, rows after the chunk count are
+     * not copied.
+     */
+    private Object[] copyChunk(final int start) {
+        final Object[] copy = new Object[CHUNK_SIZE];
+        System.arraycopy(
+            this.chunk,
+            start,
+            copy,
+            0,
+            this.chunkCount - start
+        );
+        return copy;
+    }
+
+    /**
+     * The rows before the rows in the {@link #chunk}.
+     */
+    private TableNotEmptyListRowsTree left;
+
+    /**
+     * The rows after the rows in the {@link #chunk}.
+     */
+    private TableNotEmptyListRowsTree right;
+
+    /**
+     * The rows of this node, only the first {@link #chunkCount} belong to this node.
+     */
+    private final Object[] chunk;
+
+    private final int chunkCount;
+
+    /**
+     * A node always has a priority at least as high as its children.
+     */
+    private final int priority;
+
+    /**
+     * The token of the {@link TableNotEmptyListRows} that may modify this node, or null if the node may never be
+     * modified.
+     */
+    private final Object owner;
+
+    /**
+     * The number of rows in this node and its children.
+     */
+    private int count;
+
+    // Object...........................................................................................................
+
+    /**
+     * Prints the rows in order like {@link java.util.Arrays#toString(Object[])}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+        this.toString(b);
+        b.append(']');
+        return b.toString();
+    }
+
+    private void toString(final StringBuilder b) {
+        final TableNotEmptyListRowsTree left = this.left;
+        if (null != left) {
+            left.toString(b);
+        }
+
+        final Object[] chunk = this.chunk;
+        final int chunkCount = this.chunkCount;
+        for (int i = 0; i < chunkCount; i++) {
+            if (b.length() > 1) {
+                b.append(", ");
+            }
+            b.append(chunk[i]);
+        }
+
+        final TableNotEmptyListRowsTree right = this.right;
+        if (null != right) {
+            right.toString(b);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A {@link List} view of a single row of the column text given to {@link Table#setColumns(int, int, List)}, so the
+ * column text is not copied into rows. Element indices given to {@link #get(int)} become the column, with null
+ * returned for cells missing from a column.
+ */
+final class TableSetColumnsRowList extends AbstractList<CharSequence> {
+
+    static TableSetColumnsRowList with(final List<List<CharSequence>> columns,
+                                       final int row,
+                                       final int width) {
+        return new TableSetColumnsRowList(
+            columns,
+            row,
+            width
+        );
+    }
+
+    private TableSetColumnsRowList(final List<List<CharSequence>> columns,
+                                   final int row,
+                                   final int width) {
+        super();
+        this.columns = columns;
+        this.row = row;
+        this.width = width;
+    }
+
+    @Override
+    public CharSequence get(final int column) {
+        final List<CharSequence> columnText = this.columns.get(column);
+        final int row = this.row;
+
+        return null != columnText && row < columnText.size() ?
+            columnText.get(row) :
+            null;
+    }
+
+    private final List<List<CharSequence>> columns;
+
+    private final int row;
+
+    /**
+     * The number of columns up to and including the last column with text for this row.
+     */
+    @Override
+    public int size() {
+        return this.width;
+    }
+
+    private final int width;
+}
@@ -50,29 +50,91 @@ final class TableTransformerUnaryOperator implements UnaryOperator<Table> {
     public Table apply(final Table table) {
         Objects.requireNonNull(table, "table");
 
-        final int width = table.width();
-        final List<List<CharSequence>> newColumns = Lists.array();
+        return transform(
+            table,
+            this.columns
+        );
+    }
+
+    /**
+     * Applies each {@link ColumnConfig} to the matching column, reading the columns from a column major copy. The rows
+     * of a {@link Table} are only fetched once and shared by the copy and a {@link TableBuilder} which writes all the
+     * results. The cells of a {@link TableVirtual} are read one at a time and the results become overrides, so its rows
+     * are never copied.
+     */
+    static Table transform(final Table table,
+                           final List<ColumnConfig> configs) {
+        final int count = configs.size();
+        final Table transformed;
+
+        if (table instanceof TableVirtual) {
+            transformed = ((TableVirtual) table).replaceColumns(
+                transformColumns(
+                    TableColumns.with(
+                        table,
+                        count
+                    ),
+                    configs
+                )
+            );
+        } else {
+            final TableNotEmptyListRows rows = table.rows();
+            final int width = table.width();
+
+            final List<List<CharSequence>> columns = transformColumns(
+                TableColumns.with(
+                    rows,
+                    width,
+                    table.height(),
+                    count
+                ),
+                configs
+            );
+
+            final TableBuilder builder = TableBuilder.with(
+                rows,
+                width
+            );
+
+            int c = 0;
+            for (final List<CharSequence> column : columns) {
+                builder.setColumn(
+                    c,
+                    column
+                );
+                c++;
+            }
+
+            transformed = builder.build();
+        }
+
+        return transformed;
+    }
+
+    /**
+     * Applies each {@link ColumnConfig} to its column, stopping at the last column of the {@link TableColumns}.
+     */
+    private static List<List<CharSequence>> transformColumns(final TableColumns columns,
+                                                             final List<ColumnConfig> configs) {
+        final int width = columns.width();
+        final List<List<CharSequence>> transformed = Lists.array();
 
         int c = 0;
-        for (final ColumnConfig column : this.columns) {
+        for (final ColumnConfig column : configs) {
             if (c >= width) {
                 break;
             }
 
-            newColumns.add(
+            transformed.add(
                 column.apply(
-                    table.column(c)
+                    columns.column(c)
                 )
             );
 
             c++;
         }
 
-        return table.setColumns(
-            0, // startColumn
-            0, // startRow
-            newColumns
-        );
+        return transformed;
     }
 
     private final List<ColumnConfig> columns;
@@ -0,0 +1,1142 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Table} that computes its cells on demand using a {@link BiFunction} given the column and row, nothing is
+ * stored for cells that were not updated. Updates are kept as overrides on top of the computed cells, with cleared cells
+ * held as empty text so they hide the computed cell. Each update only copies the cells it changes, see
+ * {@link TableVirtualOverrides}. Cells outside the original width and height are never computed.
+ * <br>
+ * Views such as {@link #sortRows(Table, Comparator)} or {@link #insertRows0(int, List)} compose their row and column
+ * mappings into a single {@link MappedTableBiFunction} over the original cells, so reading a cell of a view of a view
+ * does not read through each earlier view.
+ * <br>
+ * Operations that need all the rows, such as {@link #equals(Object)} or {@link TableBuilder#with(Table)} copy every cell
+ * into a {@link TableNotEmptyListRows} each time they are called. Applying a {@link TableConfig} only reads the configured
+ * columns a cell at a time and writes the results as overrides, see {@link #replaceColumns(List)}.
+ */
+final class TableVirtual extends Table {
+
+    static Table with(final int width,
+                      final int height,
+                      final BiFunction<Integer, Integer, CharSequence> cells) {
+        checkWidth(width);
+        checkHeight(height);
+        Objects.requireNonNull(cells, "cells");
+
+        return 0 == width && 0 == height ?
+            Table.empty() :
+            new TableVirtual(
+                width,
+                height,
+                width,
+                height,
+                cells,
+                TableVirtualOverrides.EMPTY
+            );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} that reads the cells of the given {@link Table} starting at the given coordinates.
+     */
+    static Table window(final Table table,
+                        final int startColumn,
+                        final int startRow,
+                        final int width,
+                        final int height) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        for (final Map.Entry<Long, CharSequence> override : overrides(table).entrySet()) {
+            final long key = override.getKey();
+            final int column = column(key) - startColumn;
+            final int row = row(key) - startRow;
+
+            if (column >= 0 && column < width && row >= 0 && row < height) {
+                overrides.put(
+                    key(
+                        column,
+                        row
+                    ),
+                    override.getValue()
+                );
+            }
+        }
+
+        return view(
+            width,
+            height,
+            mapped(table).window(
+                startColumn,
+                startRow,
+                width,
+                height
+            ),
+            overrides
+        );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} that reads the rows of the given {@link Table} in the order sorted by the given
+     * {@link Comparator}. Each row is fetched once before sorting.
+     */
+    static Table sortRows(final Table table,
+                          final Comparator<List<CharSequence>> comparator) {
+        final int height = table.height();
+        final List<List<CharSequence>> rows = Lists.array();
+
+        for (int row = 0; row < height; row++) {
+            rows.add(
+                table.row(row)
+            );
+        }
+
+        return permute(
+            table,
+            (l, r) -> comparator.compare(
+                rows.get(l),
+                rows.get(r)
+            )
+        );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} that reads the rows of the given {@link Table} in the order sorted by the text in
+     * the given column. The text of each cell in the column is fetched once before sorting.
+     */
+    static Table sortRowsByColumn(final Table table,
+                                  final int column,
+                                  final Comparator<CharSequence> comparator) {
+        final int width = table.width();
+        final int height = table.height();
+        final CharSequence[] keys = new CharSequence[height];
+
+        for (int row = 0; row < height; row++) {
+            keys[row] = column < width ?
+                table.cell(
+                    column,
+                    row
+                ) :
+                MISSING_TEXT;
+        }
+
+        return permute(
+            table,
+            (l, r) -> comparator.compare(
+                keys[l],
+                keys[r]
+            )
+        );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} that reads only the rows of the given {@link Table} that match the filter. Each row
+     * is tested once. The given {@link Table} is returned if every row matches.
+     */
+    static Table filterRows(final Table table,
+                            final Predicate<List<CharSequence>> filter) {
+        final int height = table.height();
+        final int[] matched = new int[height];
+        int count = 0;
+
+        for (int row = 0; row < height; row++) {
+            if (filter.test(table.row(row))) {
+                matched[count] = row;
+                count++;
+            }
+        }
+
+        return count == height ?
+            table :
+            rows(
+                table,
+                table.width(),
+                Arrays.copyOf(
+                    matched,
+                    count
+                ),
+                Maps.hash()
+            );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} where each column reads the given column of the given {@link Table}.
+     */
+    static Table projectColumns(final Table table,
+                                final int[] columns) {
+        final MappedTableBiFunction mapped = mapped(table);
+        final int tableWidth = table.width();
+        final int width = columns.length;
+
+        final int[] mappedColumns = new int[width];
+        for (int c = 0; c < width; c++) {
+            final int column = columns[c];
+            mappedColumns[c] = column < tableWidth ?
+                mapped.column(column) :
+                -1;
+        }
+
+        // an override appears in every column that reads its column
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        for (final Map.Entry<Long, CharSequence> override : overrides(table).entrySet()) {
+            final long key = override.getKey();
+            final int column = column(key);
+            final int row = row(key);
+
+            for (int c = 0; c < width; c++) {
+                if (column == columns[c]) {
+                    overrides.put(
+                        key(
+                            c,
+                            row
+                        ),
+                        override.getValue()
+                    );
+                }
+            }
+        }
+
+        return view(
+            width,
+            table.height(),
+            mapped.setColumns(mappedColumns),
+            overrides
+        );
+    }
+
+    /**
+     * Creates a {@link TableVirtual} where the cell at a column and row reads the cell at that row and column of the
+     * given {@link Table}.
+     */
+    static Table transpose(final Table table) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        for (final Map.Entry<Long, CharSequence> override : overrides(table).entrySet()) {
+            final long key = override.getKey();
+
+            overrides.put(
+                key(
+                    row(key),
+                    column(key)
+                ),
+                override.getValue()
+            );
+        }
+
+        return view(
+            table.height(),
+            table.width(),
+            mapped(table).transpose(),
+            overrides
+        );
+    }
+
+    /**
+     * Sorts the row numbers of the given {@link Table} and returns a view that maps each row to the sorted row. The
+     * given {@link Table} is returned if the rows are already sorted.
+     */
+    private static Table permute(final Table table,
+                                 final IntBinaryOperator comparator) {
+        final int height = table.height();
+        final int[] permutation = new int[height];
+
+        for (int row = 0; row < height; row++) {
+            permutation[row] = row;
+        }
+
+        sort(
+            permutation,
+            comparator
+        );
+
+        boolean same = true;
+        for (int row = 0; row < height; row++) {
+            same = same & permutation[row] == row;
+        }
+
+        return same ?
+            table :
+            rows(
+                table,
+                table.width(),
+                permutation,
+                Maps.hash()
+            );
+    }
+
+    /**
+     * Runs of this many rows are sorted by insertion before they are merged.
+     */
+    private final static int SORT_RUN = 16;
+
+    /**
+     * A stable merge sort of row numbers, so rows that are equal keep their order, without boxing each row number.
+     * Runs are sorted by insertion and then merged back and forth between the rows and a second array.
+     */
+    static void sort(final int[] rows,
+                     final IntBinaryOperator comparator) {
+        final int length = rows.length;
+
+        for (int start = 0; start < length; start += Math.min(SORT_RUN, length - start)) {
+            insertionSort(
+                rows,
+                start,
+                start + Math.min(SORT_RUN, length - start),
+                comparator
+            );
+        }
+
+        int[] from = rows;
+        int[] to = new int[length];
+
+        for (int run = SORT_RUN; run < length; run = run > length / 2 ? length : run * 2) {
+            int left = 0;
+            while (left < length) {
+                final int middle = left + Math.min(run, length - left);
+                final int right = middle + Math.min(run, length - middle);
+
+                merge(
+                    from,
+                    to,
+                    left,
+                    middle,
+                    right,
+                    comparator
+                );
+                left = right;
+            }
+
+            final int[] swap = from;
+            from = to;
+            to = swap;
+        }
+
+        if (from != rows) {
+            System.arraycopy(
+                from,
+                0,
+                rows,
+                0,
+                length
+            );
+        }
+    }
+
+    private static void insertionSort(final int[] rows,
+                                      final int start,
+                                      final int end,
+                                      final IntBinaryOperator comparator) {
+        for (int i = start + 1; i < end; i++) {
+            final int row = rows[i];
+
+            int j = i;
+            while (j > start && comparator.applyAsInt(rows[j - 1], row) > 0) {
+                rows[j] = rows[j - 1];
+                j--;
+            }
+            rows[j] = row;
+        }
+    }
+
+    /**
+     * Merges the two sorted runs from left to middle and middle to right, taking from the left run when rows are equal.
+     */
+    private static void merge(final int[] from,
+                              final int[] to,
+                              final int left,
+                              final int middle,
+                              final int right,
+                              final IntBinaryOperator comparator) {
+        if (middle == right || comparator.applyAsInt(from[middle - 1], from[middle]) <= 0) {
+            // already in order
+            System.arraycopy(
+                from,
+                left,
+                to,
+                left,
+                right - left
+            );
+        } else {
+            int l = left;
+            int r = middle;
+
+            for (int i = left; i < right; i++) {
+                if (r >= right || (l < middle && comparator.applyAsInt(from[l], from[r]) <= 0)) {
+                    to[i] = from[l];
+                    l++;
+                } else {
+                    to[i] = from[r];
+                    r++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a view where each row reads the given row of the given {@link Table}, or is missing when the row is -1.
+     * The overrides of the {@link Table} are moved to their new rows and added to the given overrides, overrides of rows
+     * that are not read are lost.
+     */
+    private static Table rows(final Table table,
+                              final int width,
+                              final int[] rows,
+                              final Map<Long, CharSequence> overrides) {
+        final MappedTableBiFunction mapped = mapped(table);
+        final int height = rows.length;
+
+        final int[] mappedRows = new int[height];
+        for (int r = 0; r < height; r++) {
+            final int row = rows[r];
+            mappedRows[r] = row >= 0 ?
+                mapped.row(row) :
+                -1;
+        }
+
+        final Map<Long, CharSequence> tableOverrides = overrides(table);
+        if (false == tableOverrides.isEmpty()) {
+            // the new row of each row of the table
+            final int[] newRows = new int[table.height()];
+            Arrays.fill(
+                newRows,
+                -1
+            );
+            for (int r = 0; r < height; r++) {
+                final int row = rows[r];
+                if (row >= 0) {
+                    newRows[row] = r;
+                }
+            }
+
+            for (final Map.Entry<Long, CharSequence> override : tableOverrides.entrySet()) {
+                final long key = override.getKey();
+                final int row = newRows[row(key)];
+
+                if (row >= 0) {
+                    overrides.put(
+                        key(
+                            column(key),
+                            row
+                        ),
+                        override.getValue()
+                    );
+                }
+            }
+        }
+
+        return view(
+            width,
+            height,
+            mapped.setRows(mappedRows),
+            overrides
+        );
+    }
+
+    /**
+     * Returns the cells of the given {@link Table} without its overrides as a {@link MappedTableBiFunction}. The
+     * mapping of a view of a {@link TableVirtual} is reused, so a view of a view reads the original cells directly.
+     */
+    private static MappedTableBiFunction mapped(final Table table) {
+        final MappedTableBiFunction mapped;
+
+        if (table instanceof TableVirtual) {
+            final TableVirtual virtual = (TableVirtual) table;
+            final BiFunction<Integer, Integer, CharSequence> cells = virtual.cells;
+
+            mapped = cells instanceof MappedTableBiFunction ?
+                ((MappedTableBiFunction) cells).window(
+                    0,
+                    0,
+                    virtual.cellsWidth,
+                    virtual.cellsHeight
+                ) :
+                MappedTableBiFunction.with(
+                    cells,
+                    virtual.cellsWidth,
+                    virtual.cellsHeight
+                );
+        } else {
+            mapped = MappedTableBiFunction.with(
+                table::cell,
+                table.width(),
+                table.height()
+            );
+        }
+
+        return mapped;
+    }
+
+    /**
+     * Returns the overrides of the given {@link Table}, only a {@link TableVirtual} has overrides.
+     */
+    private static Map<Long, CharSequence> overrides(final Table table) {
+        return table instanceof TableVirtual ?
+            ((TableVirtual) table).overrides.toMap() :
+            Maps.empty();
+    }
+
+    /**
+     * Creates a view with the given cells and overrides, where all the given cells are computed.
+     */
+    private static Table view(final int width,
+                              final int height,
+                              final MappedTableBiFunction cells,
+                              final Map<Long, CharSequence> overrides) {
+        return 0 == width && 0 == height ?
+            Table.empty() :
+            new TableVirtual(
+                width,
+                height,
+                width,
+                height,
+                cells,
+                TableVirtualOverrides.with(overrides)
+            );
+    }
+
+    private TableVirtual(final int width,
+                         final int height,
+                         final int cellsWidth,
+                         final int cellsHeight,
+                         final BiFunction<Integer, Integer, CharSequence> cells,
+                         final TableVirtualOverrides overrides) {
+        super();
+        this.width = width;
+        this.height = height;
+        this.cellsWidth = cellsWidth;
+        this.cellsHeight = cellsHeight;
+        this.cells = cells;
+        this.overrides = overrides;
+    }
+
+    // cell.............................................................................................................
+
+    @Override
+    CharSequence cell0(final int column,
+                       final int row) {
+        checkColumn(column);
+        checkRow(row);
+
+        final int width = this.width;
+        if (column >= width) {
+            throw new IndexOutOfBoundsException("Invalid column " + column + " >= " + width);
+        }
+        final int height = this.height;
+        if (row >= height) {
+            throw new IndexOutOfBoundsException("Invalid row " + row + " >= " + height);
+        }
+
+        final TableVirtualOverrides overrides = this.overrides;
+        CharSequence text = overrides.isEmpty() ?
+            null :
+            overrides.get(
+                key(
+                    column,
+                    row
+                )
+            );
+        if (null == text && this.isComputed(column, row)) {
+            text = this.cells.apply(
+                column,
+                row
+            );
+        }
+
+        return null != text ?
+            text :
+            MISSING_TEXT;
+    }
+
+    /**
+     * Tests if the given coordinates are within the cells computed by the {@link #cells} function.
+     */
+    private boolean isComputed(final int column,
+                               final int row) {
+        return column < this.cellsWidth && row < this.cellsHeight;
+    }
+
+    // setCell..........................................................................................................
+
+    @Override
+    Table setCell0(final int column,
+                   final int row,
+                   final CharSequence text) {
+        final Table after;
+
+        if (column < this.width && row < this.height && Objects.equals(text, this.cell(column, row))) {
+            after = this;
+        } else {
+            final Map<Long, CharSequence> overrides = Maps.hash();
+            this.override(
+                column,
+                row,
+                text,
+                overrides
+            );
+
+            after = this.replace(
+                Math.max(
+                    this.width,
+                    column + 1
+                ),
+                Math.max(
+                    this.height,
+                    row + 1
+                ),
+                overrides
+            );
+        }
+
+        return after;
+    }
+
+    // setRows..........................................................................................................
+
+    /**
+     * Each cell in the window becomes an override, cells in the same rows outside the window are unchanged.
+     */
+    @Override
+    Table setRowsNotEmpty(final int startColumn,
+                          final int startRow,
+                          final List<List<CharSequence>> windowText) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        int width = this.width;
+        int row = startRow;
+
+        for (final List<CharSequence> rowText : windowText) {
+            if (null != rowText) {
+                int column = startColumn;
+
+                for (final CharSequence text : rowText) {
+                    this.override(
+                        column,
+                        row,
+                        text,
+                        overrides
+                    );
+                    column++;
+
+                    if (isNotEmpty(text)) {
+                        width = Math.max(
+                            width,
+                            column
+                        );
+                    }
+                }
+            }
+
+            row++;
+        }
+
+        return this.replace(
+            width,
+            Math.max(
+                this.height,
+                row
+            ),
+            overrides
+        );
+    }
+
+    // column...........................................................................................................
+
+    @Override
+    List<CharSequence> column0(final int column) {
+        return TableNotEmptyColumnList.with(
+            column,
+            this
+        );
+    }
+
+    /**
+     * Cells in rows after the end of the given text are cleared.
+     */
+    @Override
+    Table setColumn1(final int column,
+                     final List<CharSequence> text) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        final int count = text.size();
+        final int height = Math.max(
+            this.height,
+            count
+        );
+
+        for (int row = 0; row < height; row++) {
+            this.override(
+                column,
+                row,
+                row < count ?
+                    text.get(row) :
+                    null,
+                overrides
+            );
+        }
+
+        return this.replace(
+            Math.max(
+                this.width,
+                column + 1
+            ),
+            height,
+            overrides
+        );
+    }
+
+    /**
+     * Replaces the first columns with the given columns adding a single delta to the overrides, with the same result as
+     * {@link TableBuilder#setColumn(int, List)} for each column. This is used by {@link TableTransformerUnaryOperator}
+     * so the rows of this {@link Table} are never copied.
+     */
+    Table replaceColumns(final List<List<CharSequence>> columns) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        int width = this.width;
+        int height = this.height;
+
+        int column = 0;
+        for (final List<CharSequence> text : columns) {
+            // like Table#setColumn an empty column after the last column is ignored
+            if (false == text.isEmpty() || column < width) {
+                int row = 0;
+                for (final CharSequence cell : text) {
+                    this.override(
+                        column,
+                        row,
+                        cell,
+                        overrides
+                    );
+                    row++;
+                }
+
+                // cells in rows after the end of the text are cleared
+                for (int r = row; r < this.height; r++) {
+                    this.override(
+                        column,
+                        r,
+                        null,
+                        overrides
+                    );
+                }
+
+                width = Math.max(
+                    width,
+                    column + 1
+                );
+                height = Math.max(
+                    height,
+                    row
+                );
+            }
+
+            column++;
+        }
+
+        return this.replace(
+            width,
+            height,
+            overrides
+        );
+    }
+
+    @Override
+    public int width() {
+        return this.width;
+    }
+
+    private final int width;
+
+    // setSize..........................................................................................................
+
+    /**
+     * Cells outside the new size are lost, and will not be computed again if the {@link Table} is made larger.
+     */
+    @Override
+    Table setSizeNotEmpty(final int width,
+                          final int height) {
+        final Table table;
+
+        if (width == this.width && height == this.height) {
+            table = this;
+        } else {
+            final Map<Long, CharSequence> overrides = Maps.hash();
+
+            for (final Map.Entry<Long, CharSequence> override : this.overrides.toMap().entrySet()) {
+                final long key = override.getKey();
+                if (column(key) < width && row(key) < height) {
+                    overrides.put(
+                        key,
+                        override.getValue()
+                    );
+                }
+            }
+
+            table = new TableVirtual(
+                width,
+                height,
+                Math.min(
+                    this.cellsWidth,
+                    width
+                ),
+                Math.min(
+                    this.cellsHeight,
+                    height
+                ),
+                this.cells,
+                TableVirtualOverrides.with(overrides)
+            );
+        }
+
+        return table;
+    }
+
+    // row..............................................................................................................
+
+    @Override
+    List<CharSequence> row0(final int row) {
+        checkRow(row);
+
+        final int height = this.height;
+        if (row >= height) {
+            throw new IndexOutOfBoundsException("Invalid row " + row + " >= " + height);
+        }
+
+        final int width = this.width;
+        final CharSequence[] rowText = new CharSequence[width];
+
+        for (int column = 0; column < width; column++) {
+            rowText[column] = this.cell(
+                column,
+                row
+            );
+        }
+
+        return Lists.of(rowText);
+    }
+
+    @Override
+    Table addRow0(final int row,
+                  final TableNotEmptyListRow rowText) {
+        return this.replaceRow(
+            row,
+            rowText
+        );
+    }
+
+    /**
+     * Every cell in the row becomes an override, a null row clears every cell.
+     */
+    @Override
+    Table replaceRow(final int row,
+                     final TableNotEmptyListRow rowText) {
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        final int rowTextWidth = null != rowText ?
+            rowText.size :
+            0;
+        final int width = Math.max(
+            this.width,
+            rowTextWidth
+        );
+
+        for (int column = 0; column < width; column++) {
+            this.override(
+                column,
+                row,
+                column < rowTextWidth ?
+                    (CharSequence) rowText.elementOrNull(column) :
+                    null,
+                overrides
+            );
+        }
+
+        return this.replace(
+            width,
+            Math.max(
+                this.height,
+                row + 1
+            ),
+            overrides
+        );
+    }
+
+    // insertRows & deleteRows.........................................................................................
+
+    /**
+     * Returns a view that reads the rows of this {@link Table} before and after the inserted rows, whose cells become
+     * overrides.
+     */
+    @Override
+    Table insertRows0(final int row,
+                      final List<List<CharSequence>> rows) {
+        final int count = rows.size();
+        final Map<Long, CharSequence> overrides = Maps.hash();
+
+        int width = this.width;
+        int r = row;
+
+        for (final List<CharSequence> text : rows) {
+            final TableNotEmptyListRow rowText = copyRowText(text);
+            final int rowWidth = rowText.size;
+
+            for (int column = 0; column < rowWidth; column++) {
+                final CharSequence cell = (CharSequence) rowText.elementOrNull(column);
+                if (isNotEmpty(cell)) {
+                    overrides.put(
+                        key(
+                            column,
+                            r
+                        ),
+                        cell
+                    );
+                }
+            }
+
+            width = Math.max(
+                width,
+                rowWidth
+            );
+            r++;
+        }
+
+        final int height = this.height + count;
+        final int end = row + count;
+        final int[] tableRows = new int[height];
+
+        for (int i = 0; i < height; i++) {
+            tableRows[i] = i < row ?
+                i :
+                i < end ?
+                    -1 :
+                    i - count;
+        }
+
+        return rows(
+            this,
+            width,
+            tableRows,
+            overrides
+        );
+    }
+
+    /**
+     * Returns a view that reads the rows of this {@link Table} skipping the deleted rows. Unlike a {@link TableNotEmpty}
+     * the width is unchanged, just like {@link #setSizeNotEmpty(int, int)}, unless every row is deleted, which returns
+     * an empty {@link Table}.
+     */
+    @Override
+    Table deleteRows0(final int from,
+                      final int to) {
+        final int count = to - from;
+        final int height = this.height - count;
+
+        final Table table;
+
+        if (0 == height) {
+            table = Table.empty();
+        } else {
+            final int[] tableRows = new int[height];
+
+            for (int i = 0; i < height; i++) {
+                tableRows[i] = i < from ?
+                    i :
+                    i + count;
+            }
+
+            table = rows(
+                this,
+                this.width,
+                tableRows,
+                Maps.hash()
+            );
+        }
+
+        return table;
+    }
+
+    // height...........................................................................................................
+
+    @Override
+    public int height() {
+        return this.height;
+    }
+
+    private final int height;
+
+    // overrides........................................................................................................
+
+    /**
+     * Records the text for the given cell in the given delta. An empty cell only needs to be recorded if it hides a
+     * computed cell or an earlier override.
+     */
+    private void override(final int column,
+                          final int row,
+                          final CharSequence text,
+                          final Map<Long, CharSequence> overrides) {
+        final long key = key(
+            column,
+            row
+        );
+
+        if (isNotEmpty(text)) {
+            overrides.put(
+                key,
+                text
+            );
+        } else {
+            if (this.isComputed(column, row) || null != this.overrides.get(key)) {
+                overrides.put(
+                    key,
+                    MISSING_TEXT
+                );
+            } else {
+                overrides.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link TableVirtual} with the given delta added on top of the current overrides.
+     */
+    private Table replace(final int width,
+                          final int height,
+                          final Map<Long, CharSequence> overrides) {
+        return new TableVirtual(
+            width,
+            height,
+            this.cellsWidth,
+            this.cellsHeight,
+            this.cells,
+            this.overrides.put(overrides)
+        );
+    }
+
+    private static long key(final int column,
+                            final int row) {
+        return ((long) row << 32) | column;
+    }
+
+    private static int column(final long key) {
+        return (int) key;
+    }
+
+    private static int row(final long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Cells that were set, cleared cells are held as empty text.
+     */
+    private final TableVirtualOverrides overrides;
+
+    /**
+     * Computes the text for a cell given the column and row.
+     */
+    private final BiFunction<Integer, Integer, CharSequence> cells;
+
+    /**
+     * The number of columns that are computed by {@link #cells}, which may be less than the {@link #width}.
+     */
+    private final int cellsWidth;
+
+    /**
+     * The number of rows that are computed by {@link #cells}, which may be less than the {@link #height}.
+     */
+    private final int cellsHeight;
+
+    // rows.............................................................................................................
+
+    /**
+     * Copies every cell into new rows.
+     */
+    @Override
+    TableNotEmptyListRows rows() {
+        final int width = this.width;
+        final int height = this.height;
+
+        final TableBuilder builder = TableBuilder.empty();
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                final CharSequence text = this.cell(
+                    column,
+                    row
+                );
+                if (isNotEmpty(text)) {
+                    builder.setCell(
+                        column,
+                        row,
+                        text
+                    );
+                }
+            }
+        }
+
+        return builder.build()
+            .setSize(
+                width,
+                height
+            ).rows();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            hashCode = this.rows().hashCode();
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    private int hashCode;
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof Table &&
+                this.equals0((Table) other);
+    }
+
+    private boolean equals0(final Table other) {
+        return this.rows().equals(other.rows());
+    }
+
+    @GwtIncompatible
+    @Override
+    String toStringTest() {
+        return this.rows()
+            .toStringTest();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import walkingkooka.collect.map.Maps;
+
+import java.util.Map;
+
+/**
+ * The overridden cells of a {@link TableVirtual}, held as a chain of deltas so an update only copies its own cells and
+ * never the cells of earlier updates. A delta that is at least as large as its parent is merged with the parent, which
+ * keeps the chain at most logarithmic in length and each cell is only copied a logarithmic number of times.
+ * <br>
+ * Instances are never modified once created, so earlier versions of a {@link TableVirtual} are unaffected.
+ */
+final class TableVirtualOverrides {
+
+    /**
+     * An instance without any overrides.
+     */
+    final static TableVirtualOverrides EMPTY = new TableVirtualOverrides(
+        null,
+        Maps.empty()
+    );
+
+    /**
+     * Creates a new instance holding only the given overrides, the {@link Map} must not be modified afterwards.
+     */
+    static TableVirtualOverrides with(final Map<Long, CharSequence> overrides) {
+        return overrides.isEmpty() ?
+            EMPTY :
+            new TableVirtualOverrides(
+                null,
+                overrides
+            );
+    }
+
+    private TableVirtualOverrides(final TableVirtualOverrides parent,
+                                  final Map<Long, CharSequence> delta) {
+        super();
+        this.parent = parent;
+        this.delta = delta;
+    }
+
+    /**
+     * Returns true if there are no overrides.
+     */
+    boolean isEmpty() {
+        return null == this.parent && this.delta.isEmpty();
+    }
+
+    /**
+     * Returns the text for the given key or null if the cell was never overridden.
+     */
+    CharSequence get(final long key) {
+        CharSequence text = null;
+
+        for (TableVirtualOverrides overrides = this; null != overrides; overrides = overrides.parent) {
+            text = overrides.delta.get(key);
+            if (null != text) {
+                break;
+            }
+        }
+
+        return text;
+    }
+
+    /**
+     * Returns a new instance with the given delta on top of these overrides, the {@link Map} must not be modified
+     * afterwards.
+     */
+    TableVirtualOverrides put(final Map<Long, CharSequence> delta) {
+        final TableVirtualOverrides overrides;
+
+        if (delta.isEmpty()) {
+            overrides = this;
+        } else {
+            TableVirtualOverrides parent = this.isEmpty() ?
+                null :
+                this;
+            Map<Long, CharSequence> merged = delta;
+
+            while (null != parent && parent.delta.size() <= merged.size()) {
+                final Map<Long, CharSequence> copy = Maps.hash();
+                copy.putAll(parent.delta);
+                copy.putAll(merged);
+
+                merged = copy;
+                parent = parent.parent;
+            }
+
+            overrides = new TableVirtualOverrides(
+                parent,
+                merged
+            );
+        }
+
+        return overrides;
+    }
+
+    /**
+     * Returns all overrides in a new {@link Map}.
+     */
+    Map<Long, CharSequence> toMap() {
+        final Map<Long, CharSequence> map = null != this.parent ?
+            this.parent.toMap() :
+            Maps.hash();
+        map.putAll(this.delta);
+        return map;
+    }
+
+    /**
+     * The number of deltas in the chain, used by tests.
+     */
+    int depth() {
+        return null != this.parent ?
+            1 + this.parent.depth() :
+            1;
+    }
+
+    /**
+     * The earlier overrides or null.
+     */
+    private final TableVirtualOverrides parent;
+
+    /**
+     * The overrides added on top of the {@link #parent}, these hide any override in the {@link #parent}.
+     */
+    private final Map<Long, CharSequence> delta;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.toMap()
+            .toString();
+    }
+}
@@ -17,10 +17,14 @@
 
 package walkingkooka.text.pretty;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.reflect.PublicStaticHelper;
 import walkingkooka.text.LineEnding;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -73,6 +77,34 @@ final public class TextPretty implements PublicStaticHelper {
         return CsvListCharSequenceFunction.with(delimiter);
     }
 
+    /**
+     * Returns a {@link Table} with a row for each line of csv text, parsing a line only when one of its cells is read.
+     * Only the start of each line is held, the text may be any {@link CharSequence} including a view of a file, and is
+     * limited to 2G characters, see {@link #csvFileTable(Path, Charset, char)} for larger files.
+     */
+    public static Table csvTable(final CharSequence text,
+                                 final char delimiter) {
+        return CsvTableBiFunction.table(
+            text,
+            delimiter
+        );
+    }
+
+    /**
+     * Returns a {@link Table} with a row for each line of a csv file, which is memory mapped rather than read, so it may
+     * be larger than the 2G characters of a {@link CharSequence}. This is only available on the JVM.
+     */
+    @GwtIncompatible
+    public static Table csvFileTable(final Path path,
+                                     final Charset charset,
+                                     final char delimiter) throws IOException {
+        return CsvFileTableBiFunction.table(
+            path,
+            charset,
+            delimiter
+        );
+    }
+
     /**
      * {@see CharSequenceBiFunctionAlignLeft}
      */
@@ -115,6 +147,13 @@ final public class TextPretty implements PublicStaticHelper {
         return Table.empty();
     }
 
+    /**
+     * {@see TableBuilder}
+     */
+    public static TableBuilder tableBuilder() {
+        return TableBuilder.empty();
+    }
+
     /**
      * {@see TableConfig#empty}
      */
@@ -164,6 +203,19 @@ final public class TextPretty implements PublicStaticHelper {
         return CharSequenceBiFunctionOverflowTruncate.INSTANCE;
     }
 
+    /**
+     * {@see TableVirtual}
+     */
+    public static Table virtualTable(final int width,
+                                     final int height,
+                                     final BiFunction<Integer, Integer, CharSequence> cells) {
+        return TableVirtual.with(
+            width,
+            height,
+            cells
+        );
+    }
+
     /**
      * {@see WhitespaceNormalizingCharSequenceUnaryOperator}
      */
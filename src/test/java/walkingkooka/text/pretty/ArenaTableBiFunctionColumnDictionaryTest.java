@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.util.Map;
+
+public final class ArenaTableBiFunctionColumnDictionaryTest extends TextPrettyTestCase<ArenaTableBiFunctionColumnDictionary>
+    implements ClassTesting2<ArenaTableBiFunctionColumnDictionary>,
+    ToStringTesting<ArenaTableBiFunctionColumnDictionary> {
+
+    @Test
+    public void testSetAndCell() {
+        final ArenaTableBiFunctionColumnDictionary column = this.createColumn();
+
+        this.checkEquals("b", column.cell(0), "row 0");
+        this.checkEquals("a", column.cell(1), "row 1");
+        this.checkEquals("b", column.cell(2), "row 2");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createColumn(),
+            "2 values"
+        );
+    }
+
+    private ArenaTableBiFunctionColumnDictionary createColumn() {
+        final Map<String, Integer> dictionary = Maps.hash();
+        dictionary.put("a", 0);
+        dictionary.put("b", 1);
+
+        final ArenaTableBiFunctionColumnDictionary column = ArenaTableBiFunctionColumnDictionary.with(
+            dictionary,
+            3
+        );
+        column.set(0, "b");
+        column.set(1, "a");
+        column.set(2, "b");
+
+        return column;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ArenaTableBiFunctionColumnDictionary> type() {
+        return ArenaTableBiFunctionColumnDictionary.class;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ArenaTableBiFunctionColumnRunsTest extends TextPrettyTestCase<ArenaTableBiFunctionColumnRuns>
+    implements ClassTesting2<ArenaTableBiFunctionColumnRuns>,
+    ToStringTesting<ArenaTableBiFunctionColumnRuns> {
+
+    @Test
+    public void testSetAndCell() {
+        final ArenaTableBiFunctionColumnRuns column = this.createColumn();
+
+        this.checkEquals("a", column.cell(0), "row 0");
+        this.checkEquals("a", column.cell(1), "row 1");
+        this.checkEquals("b", column.cell(2), "row 2");
+        this.checkEquals("", column.cell(3), "row 3");
+        this.checkEquals("", column.cell(4), "row 4");
+        this.checkEquals("a", column.cell(5), "row 5");
+    }
+
+    @Test
+    public void testCellSameRun() {
+        final ArenaTableBiFunctionColumnRuns column = this.createColumn();
+
+        assertSame(
+            column.cell(0),
+            column.cell(1)
+        );
+    }
+
+    @Test
+    public void testIsSame() {
+        this.checkEquals(
+            true,
+            ArenaTableBiFunctionColumnRuns.isSame("abc", new StringBuilder("abc"))
+        );
+    }
+
+    @Test
+    public void testIsSameDifferent() {
+        this.checkEquals(
+            false,
+            ArenaTableBiFunctionColumnRuns.isSame("abc", "abd")
+        );
+    }
+
+    @Test
+    public void testIsSameDifferentLength() {
+        this.checkEquals(
+            false,
+            ArenaTableBiFunctionColumnRuns.isSame("abc", "ab")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createColumn(),
+            "4 runs"
+        );
+    }
+
+    private ArenaTableBiFunctionColumnRuns createColumn() {
+        final ArenaTableBiFunctionColumnRuns column = ArenaTableBiFunctionColumnRuns.with(4);
+        column.set(0, "a");
+        column.set(1, new StringBuilder("a"));
+        column.set(2, "b");
+        column.set(3, "");
+        column.set(4, "");
+        column.set(5, "a");
+        return column;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ArenaTableBiFunctionColumnRuns> type() {
+        return ArenaTableBiFunctionColumnRuns.class;
+    }
+}
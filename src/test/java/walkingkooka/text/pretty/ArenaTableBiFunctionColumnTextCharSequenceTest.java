@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.text.CharSequenceTesting2;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ArenaTableBiFunctionColumnTextCharSequenceTest extends TextPrettyTestCase<ArenaTableBiFunctionColumnTextCharSequence>
+    implements CharSequenceTesting2<ArenaTableBiFunctionColumnTextCharSequence> {
+
+    // "xabcdx" with the view over "abcd"
+    private final static byte[] BYTES = new byte[]{'x', 'a', 'b', 'c', 'd', 'x'};
+
+    private final static String TOSTRING = "abcd";
+
+    @Test
+    public void testLength() {
+        this.lengthAndCheck(TOSTRING.length());
+    }
+
+    @Test
+    public void testCharAt() {
+        final ArenaTableBiFunctionColumnTextCharSequence chars = this.createCharSequence();
+
+        for (int i = 0; i < TOSTRING.length(); i++) {
+            this.charAtAndCheck(
+                chars,
+                i,
+                TOSTRING.charAt(i)
+            );
+        }
+    }
+
+    @Test
+    public void testCharAtLatin1() {
+        this.charAtAndCheck(
+            ArenaTableBiFunctionColumnTextCharSequence.with(
+                new byte[]{(byte) 0xe9},
+                null,
+                0,
+                1
+            ),
+            0,
+            '\u00e9'
+        );
+    }
+
+    @Test
+    public void testSubSequenceAll() {
+        final ArenaTableBiFunctionColumnTextCharSequence chars = this.createCharSequence();
+        assertSame(
+            chars,
+            chars.subSequence(0, TOSTRING.length())
+        );
+    }
+
+    @Test
+    public void testSubSequence() {
+        this.subSequenceAndCheck(
+            1,
+            3,
+            "bc"
+        );
+    }
+
+    @Test
+    public void testEqualsChars() {
+        this.checkEquals(
+            ArenaTableBiFunctionColumnTextCharSequence.with(
+                null,
+                "abcd".toCharArray(),
+                0,
+                4
+            ),
+            this.createCharSequence()
+        );
+    }
+
+    @Test
+    public void testEqualsString() {
+        this.checkEquals(
+            true,
+            this.createCharSequence()
+                .equals(TOSTRING)
+        );
+    }
+
+    @Test
+    public void testEqualsStringBuilderNotEqual() {
+        this.checkEquals(
+            false,
+            this.createCharSequence()
+                .equals(new StringBuilder(TOSTRING))
+        );
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        this.checkEquals(
+            TOSTRING.hashCode(),
+            this.createCharSequence()
+                .hashCode()
+        );
+    }
+
+    @Test
+    public void testHashCodeSameAsStringChars() {
+        final String text = "\u4e2d\u6587";
+
+        this.checkEquals(
+            text.hashCode(),
+            ArenaTableBiFunctionColumnTextCharSequence.with(
+                null,
+                text.toCharArray(),
+                0,
+                2
+            ).hashCode()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createCharSequence(), TOSTRING);
+    }
+
+    @Test
+    public void testToStringChars() {
+        this.toStringAndCheck(
+            ArenaTableBiFunctionColumnTextCharSequence.with(
+                null,
+                "x\u4e2d\u6587x".toCharArray(),
+                1,
+                2
+            ),
+            "\u4e2d\u6587"
+        );
+    }
+
+    @Override
+    public ArenaTableBiFunctionColumnTextCharSequence createCharSequence() {
+        return ArenaTableBiFunctionColumnTextCharSequence.with(
+            BYTES,
+            null,
+            1,
+            4
+        );
+    }
+
+    @Override
+    public ArenaTableBiFunctionColumnTextCharSequence createObject() {
+        return this.createCharSequence();
+    }
+
+    @Override
+    public Class<ArenaTableBiFunctionColumnTextCharSequence> type() {
+        return ArenaTableBiFunctionColumnTextCharSequence.class;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ArenaTableBiFunctionColumnTextTest extends TextPrettyTestCase<ArenaTableBiFunctionColumnText>
+    implements ClassTesting2<ArenaTableBiFunctionColumnText>,
+    ToStringTesting<ArenaTableBiFunctionColumnText> {
+
+    @Test
+    public void testWithTooManyCharactersFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ArenaTableBiFunctionColumnText.with(
+                1L + Integer.MAX_VALUE,
+                true,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testSetAndCellLatin1() {
+        this.setAndCellAndCheck(
+            true,
+            "abc", "", "d"
+        );
+    }
+
+    @Test
+    public void testSetAndCellNotLatin1() {
+        this.setAndCellAndCheck(
+            false,
+            "\u4e2d", "", "d"
+        );
+    }
+
+    private void setAndCellAndCheck(final boolean latin1,
+                                    final String... cells) {
+        final ArenaTableBiFunctionColumnText column = this.createColumn(
+            latin1,
+            cells
+        );
+
+        for (int row = 0; row < cells.length; row++) {
+            final String text = cells[row];
+            final CharSequence cell = column.cell(row);
+
+            this.checkEquals(
+                text.isEmpty() ?
+                    null :
+                    text,
+                null != cell ?
+                    cell.toString() :
+                    null,
+                "row " + row
+            );
+        }
+    }
+
+    @Test
+    public void testCellNotCopied() {
+        final ArenaTableBiFunctionColumnText column = this.createColumn(
+            true,
+            "abc", "d"
+        );
+
+        this.checkEquals(
+            ArenaTableBiFunctionColumnTextCharSequence.class,
+            column.cell(0)
+                .getClass()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createColumn(
+                true,
+                "abc", "d"
+            ),
+            "4 characters"
+        );
+    }
+
+    private ArenaTableBiFunctionColumnText createColumn(final boolean latin1,
+                                                       final String... cells) {
+        long length = 0;
+        for (final String text : cells) {
+            length += text.length();
+        }
+
+        final ArenaTableBiFunctionColumnText column = ArenaTableBiFunctionColumnText.with(
+            length,
+            latin1,
+            cells.length
+        );
+
+        int row = 0;
+        for (final String text : cells) {
+            column.set(
+                row,
+                text
+            );
+            row++;
+        }
+
+        return column;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ArenaTableBiFunctionColumnText> type() {
+        return ArenaTableBiFunctionColumnText.class;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ArenaTableBiFunctionTest extends TextPrettyTestCase<ArenaTableBiFunction>
+    implements ClassTesting2<ArenaTableBiFunction> {
+
+    @Test
+    public void testTableEmpty() {
+        this.checkEquals(
+            Table.empty(),
+            ArenaTableBiFunction.table(Table.empty())
+        );
+    }
+
+    @Test
+    public void testTableLatin1() {
+        this.tableAndCheck(
+            Table.empty()
+                .setRow(0, Lists.of("a", "bc", "\u00e9"))
+                .setRow(1, Lists.of("", "d"))
+        );
+    }
+
+    @Test
+    public void testTableNotLatin1() {
+        this.tableAndCheck(
+            Table.empty()
+                .setRow(0, Lists.of("a", "\u4e2d\u6587"))
+                .setRow(2, Lists.of("b"))
+        );
+    }
+
+    @Test
+    public void testTableWiderThanCells() {
+        this.tableAndCheck(
+            Table.empty()
+                .setCell(0, 0, "a")
+                .setSize(3, 2)
+        );
+    }
+
+    @Test
+    public void testTableMissingCell() {
+        final Table table = ArenaTableBiFunction.table(
+            Table.empty()
+                .setRow(0, Lists.of("a", "", "c"))
+        );
+
+        this.checkEquals(
+            "",
+            table.cell(1, 0)
+                .toString()
+        );
+        this.checkEquals(
+            "c",
+            table.cell(2, 0)
+        );
+    }
+
+    @Test
+    public void testTableSetCell() {
+        final Table table = Table.empty()
+            .setRow(0, Lists.of("a", "b"));
+
+        this.checkEquals(
+            table.setCell(1, 0, "x"),
+            ArenaTableBiFunction.table(table)
+                .setCell(1, 0, "x")
+        );
+    }
+
+    @Test
+    public void testTableDictionaryColumnSharesValues() {
+        final Table table = ArenaTableBiFunction.table(
+            Table.empty()
+                .setColumn(0, Lists.of("open", new StringBuilder("open"), "closed", "open"))
+        );
+
+        this.checkEquals(
+            "open",
+            table.cell(0, 1)
+        );
+        assertSame(
+            table.cell(0, 0),
+            table.cell(0, 3)
+        );
+    }
+
+    @Test
+    public void testTableRunsColumn() {
+        Table table = Table.empty();
+        for (int row = 0; row < 64; row++) {
+            table = table.setRow(
+                row,
+                Lists.of("group" + (row / 32), "value" + row)
+            );
+        }
+
+        this.tableAndCheck(table);
+
+        final Table arena = ArenaTableBiFunction.table(table);
+        assertSame(
+            arena.cell(0, 32),
+            arena.cell(0, 63)
+        );
+    }
+
+    @Test
+    public void testTableManyValues() {
+        Table table = Table.empty();
+        for (int row = 0; row < 300; row++) {
+            table = table.setRow(
+                row,
+                Lists.of("A", "value" + row)
+            );
+        }
+
+        this.tableAndCheck(table);
+    }
+
+    private void tableAndCheck(final Table table) {
+        final Table arena = ArenaTableBiFunction.table(table);
+
+        this.checkEquals(
+            table.width(),
+            arena.width(),
+            "width"
+        );
+        this.checkEquals(
+            table.height(),
+            arena.height(),
+            "height"
+        );
+        this.checkEquals(
+            table,
+            arena
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ArenaTableBiFunction> type() {
+        return ArenaTableBiFunction.class;
+    }
+}
@@ -41,6 +41,18 @@ public class CharSequenceBiFunctionAlignCenterTest extends CharSequenceBiFunctio
         this.applyAndCheck2("abc123", 6, "abc123");
     }
 
+    @Test
+    public void testApplyEqualsString() {
+        this.checkEquals(
+            " abc123  ",
+            this.createBiFunction()
+                .apply(
+                    "abc123",
+                    9
+                )
+        );
+    }
+
     @Override
     public CharSequenceBiFunctionAlignCenter createBiFunction() {
         return CharSequenceBiFunctionAlignCenter.INSTANCE;
@@ -17,8 +17,55 @@
 
 package walkingkooka.text.pretty;
 
+import org.junit.jupiter.api.Test;
+
 public class CharSequenceBiFunctionAlignTest extends TextPrettyTestCase<CharSequenceBiFunctionAlign> {
 
+    @Test
+    public void testPad() {
+        this.padAndCheck(
+            "abc",
+            2,
+            1,
+            "  abc "
+        );
+    }
+
+    @Test
+    public void testPadNone() {
+        this.padAndCheck(
+            "abc",
+            0,
+            0,
+            "abc"
+        );
+    }
+
+    @Test
+    public void testPadStringBuilder() {
+        this.padAndCheck(
+            new StringBuilder("abc"),
+            1,
+            2,
+            " abc  "
+        );
+    }
+
+    private void padAndCheck(final CharSequence text,
+                             final int left,
+                             final int right,
+                             final String expected) {
+        this.checkEquals(
+            expected,
+            CharSequenceBiFunctionAlign.pad(
+                text,
+                left,
+                right
+            ),
+            () -> "pad " + text + " " + left + " " + right
+        );
+    }
+
     @Override
     public Class<CharSequenceBiFunctionAlign> type() {
         return CharSequenceBiFunctionAlign.class;
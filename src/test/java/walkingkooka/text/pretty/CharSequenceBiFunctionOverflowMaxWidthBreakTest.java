@@ -44,6 +44,11 @@ public final class CharSequenceBiFunctionOverflowMaxWidthBreakTest extends CharS
         this.applyAndCheck3("abcdefghij", 3, "abc", "def", "ghi", "j");
     }
 
+    @Test
+    public void testOverflowMultipleLines() {
+        this.applyAndCheck3("abcdef\nab\nabcdefg", 3, "abc", "def", "ab", "abc", "def", "g");
+    }
+
     private void applyAndCheck3(final String text,
                                 final int maxWidth,
                                 final String... expected) {
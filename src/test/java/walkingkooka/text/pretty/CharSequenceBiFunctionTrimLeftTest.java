@@ -18,6 +18,10 @@
 package walkingkooka.text.pretty;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.LineEnding;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class CharSequenceBiFunctionTrimLeftTest extends CharSequenceBiFunctionTrimTestCase<CharSequenceBiFunctionTrimLeft> {
 
@@ -41,6 +45,40 @@ public class CharSequenceBiFunctionTrimLeftTest extends CharSequenceBiFunctionTr
         this.applyAndCheck2("abc123 ", 7);
     }
 
+    @Test
+    public void testMultipleLines() {
+        this.checkEquals(
+            "abc\n123\n",
+            this.createBiFunction()
+                .apply(" abc\r\n  123", 10)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testMultipleLinesEmptyLineRemoved() {
+        this.checkEquals(
+            "abc\n123\n",
+            this.createBiFunction()
+                .apply(" abc\n\n  123\n", 10)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testMultipleLinesUnchanged() {
+        final MultiLineCharSequence text = MultiLineCharSequence.with(
+            Lists.of("abc", "123"),
+            LineEnding.NL
+        );
+
+        assertSame(
+            text,
+            this.createBiFunction()
+                .apply(text, 10)
+        );
+    }
+
     @Override
     public CharSequenceBiFunctionTrimLeft createBiFunction() {
         return CharSequenceBiFunctionTrimLeft.INSTANCE;
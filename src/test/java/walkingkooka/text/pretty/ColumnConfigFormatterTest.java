@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CharSequences;
+
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColumnConfigFormatterTest implements ClassTesting<ColumnConfigFormatter>,
+    ToStringTesting<ColumnConfigFormatter> {
+
+    private final static int WIDTH = 5;
+
+    @Test
+    public void testFormatEmptyText() {
+        final String text = "";
+
+        assertSame(
+            text,
+            this.formatter(
+                ColumnConfig.empty()
+                    .leftAlign()
+            ).format(
+                text,
+                WIDTH
+            )
+        );
+    }
+
+    @Test
+    public void testFormatNoFunctions() {
+        final String text = "abc";
+
+        assertSame(
+            text,
+            this.formatter(ColumnConfig.empty())
+                .format(
+                    text,
+                    WIDTH
+                )
+        );
+    }
+
+    @Test
+    public void testFormatLine() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .trimLeftRight()
+                .rightAlign(),
+            " abc "
+        );
+    }
+
+    @Test
+    public void testFormatLineTrimmedToEmpty() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .trimLeftRight()
+                .leftAlign(),
+            "   "
+        );
+    }
+
+    @Test
+    public void testFormatLineTruncated() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .truncate()
+                .centerAlign(),
+            "abcdefgh"
+        );
+    }
+
+    @Test
+    public void testFormatLineWordBreak() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .trimLeftRight()
+                .overflowWordBreak()
+                .leftAlign(),
+            " abc defg hi "
+        );
+    }
+
+    @Test
+    public void testFormatLineMaxWidthBreak() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .overflowMaxWidthBreak()
+                .rightAlign(),
+            "abcdefghijkl"
+        );
+    }
+
+    @Test
+    public void testFormatLineWithLineEnding() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .trimRight()
+                .leftAlign(),
+            "abc\n"
+        );
+    }
+
+    @Test
+    public void testFormatMultipleLines() {
+        this.formatAndCheck(
+            ColumnConfig.empty()
+                .trimLeftRight()
+                .overflowWordBreak()
+                .leftAlign(),
+            " abc\r\ndefg hijk\n\nlm "
+        );
+    }
+
+    @Test
+    public void testFormatOverflowedFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.formatter(
+                ColumnConfig.empty()
+                    .leftAlign()
+            ).format(
+                "abcdefgh",
+                WIDTH
+            )
+        );
+    }
+
+    private void formatAndCheck(final ColumnConfig config,
+                                final CharSequence text) {
+        CharSequence expected = text;
+        for (final BiFunction<CharSequence, Integer, CharSequence> function : config.functions) {
+            expected = function.apply(
+                expected,
+                WIDTH
+            );
+        }
+
+        this.checkEquals(
+            expected.toString(),
+            this.formatter(config)
+                .format(
+                    text,
+                    WIDTH
+                ).toString(),
+            () -> config + " " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    private ColumnConfigFormatter formatter(final ColumnConfig config) {
+        return ColumnConfigFormatter.with(config.functions);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ColumnConfig config = ColumnConfig.empty()
+            .trimLeft()
+            .leftAlign();
+
+        this.toStringAndCheck(
+            this.formatter(config),
+            Lists.of(
+                TextPretty.trimLeft(),
+                TextPretty.leftAlignment()
+            ).toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ColumnConfigFormatter> type() {
+        return ColumnConfigFormatter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
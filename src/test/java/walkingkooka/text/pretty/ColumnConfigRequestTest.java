@@ -19,12 +19,28 @@ package walkingkooka.text.pretty;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
 public final class ColumnConfigRequestTest implements ClassTesting<ColumnConfigRequest>,
     ToStringTesting<ColumnConfigRequest> {
 
+    @Test
+    public void testApplyRepeatedValues() {
+        this.checkEquals(
+            Lists.of("A   ", "BB  ", "A   ", "BB  ", "A   "),
+            ColumnConfigRequest.with(
+                ColumnConfig.empty()
+                    .minWidth(4)
+                    .maxWidth(4)
+                    .leftAlign()
+            ).apply(
+                Lists.of("A", "BB", "A", "BB", "A")
+            )
+        );
+    }
+
     @Test
     public void testToString() {
         final ColumnConfig config = ColumnConfig.empty().maxWidth(12).leftAlign();
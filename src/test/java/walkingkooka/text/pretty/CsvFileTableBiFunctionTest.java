@@ -0,0 +1,399 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CsvFileTableBiFunctionTest extends TextPrettyTestCase<CsvFileTableBiFunction>
+    implements ClassTesting2<CsvFileTableBiFunction> {
+
+    private final static Charset CHARSET = StandardCharsets.UTF_8;
+
+    @Test
+    public void testTableNullPathFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CsvFileTableBiFunction.table(
+                null,
+                CHARSET,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testTableNullCharsetFails() throws IOException {
+        final Path path = this.file("a,b");
+        try {
+            assertThrows(
+                NullPointerException.class,
+                () -> CsvFileTableBiFunction.table(
+                    path,
+                    null,
+                    ','
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableInvalidDelimiterFails() throws IOException {
+        final Path path = this.file("a,b");
+        try {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> CsvFileTableBiFunction.table(
+                    path,
+                    CHARSET,
+                    '"'
+                )
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> CsvFileTableBiFunction.table(
+                    path,
+                    CHARSET,
+                    '\n'
+                )
+            );
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> CsvFileTableBiFunction.table(
+                    path,
+                    CHARSET,
+                    '\u00e9'
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableEmptyFile() throws IOException {
+        final Path path = this.file("");
+        try {
+            assertSame(
+                Table.empty(),
+                CsvFileTableBiFunction.table(
+                    path,
+                    CHARSET,
+                    ','
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableOneLine() throws IOException {
+        this.tableAndCheck(
+            "a,b,c",
+            Lists.of("a", "b", "c")
+        );
+    }
+
+    @Test
+    public void testTableTrailingLineEnding() throws IOException {
+        this.tableAndCheck(
+            "a,b\n",
+            Lists.of("a", "b")
+        );
+    }
+
+    @Test
+    public void testTableManyLines() throws IOException {
+        this.tableAndCheck(
+            "a,b\nc,d\ne,f",
+            Lists.of("a", "b"),
+            Lists.of("c", "d"),
+            Lists.of("e", "f")
+        );
+    }
+
+    @Test
+    public void testTableCarriageReturnLineFeed() throws IOException {
+        this.tableAndCheck(
+            "a,b\r\nc,d\r\n",
+            Lists.of("a", "b"),
+            Lists.of("c", "d")
+        );
+    }
+
+    @Test
+    public void testTableDifferentFieldCounts() throws IOException {
+        this.tableAndCheck(
+            "a\nb,c,d\ne,f",
+            Lists.of("a", "", ""),
+            Lists.of("b", "c", "d"),
+            Lists.of("e", "f", "")
+        );
+    }
+
+    @Test
+    public void testTableEmptyLine() throws IOException {
+        this.tableAndCheck(
+            "a,b\n\nc,d",
+            Lists.of("a", "b"),
+            Lists.of("", ""),
+            Lists.of("c", "d")
+        );
+    }
+
+    @Test
+    public void testTableDoubleQuotedDelimiter() throws IOException {
+        this.tableAndCheck(
+            "\"a,b\",c\nd,e",
+            Lists.of("a,b", "c"),
+            Lists.of("d", "e")
+        );
+    }
+
+    @Test
+    public void testTableDoubleQuotedLineEnding() throws IOException {
+        this.tableAndCheck(
+            "\"a\nb\",c\nd,e",
+            Lists.of("a\nb", "c"),
+            Lists.of("d", "e")
+        );
+    }
+
+    @Test
+    public void testTableEscapedDoubleQuote() throws IOException {
+        this.tableAndCheck(
+            "\"a\"\"b\",c",
+            Lists.of("a\"b", "c")
+        );
+    }
+
+    @Test
+    public void testTableMultiByteCharacters() throws IOException {
+        this.tableAndCheck(
+            "\u00e9,\u20ac\n\u00fc,x",
+            Lists.of("\u00e9", "\u20ac"),
+            Lists.of("\u00fc", "x")
+        );
+    }
+
+    @Test
+    public void testTableManySegments() throws IOException {
+        final Path path = this.file("abc,def\nghi,\"j\nk\"\n\u00e9\u00e9,lmn");
+        try {
+            // 4 byte segments so lines and characters span segments
+            final Table table = CsvFileTableBiFunction.table(
+                path,
+                CHARSET,
+                ',',
+                2
+            );
+
+            this.checkEquals(
+                Table.empty()
+                    .setRow(0, Lists.of("abc", "def"))
+                    .setRow(1, Lists.of("ghi", "j\nk"))
+                    .setRow(2, Lists.of("\u00e9\u00e9", "lmn")),
+                table
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableMoreLinesThanIndexStride() throws IOException {
+        final int height = CsvFileTableBiFunction.INDEX_STRIDE * 3 + 5;
+
+        final StringBuilder text = new StringBuilder();
+        for (int r = 0; r < height; r++) {
+            text.append("a")
+                .append(r)
+                .append(",\"b\n")
+                .append(r)
+                .append("\"\n");
+        }
+
+        final Path path = this.file(text.toString());
+        try {
+            final Table table = CsvFileTableBiFunction.table(
+                path,
+                CHARSET,
+                ','
+            );
+
+            this.checkEquals(
+                height,
+                table.height(),
+                "height"
+            );
+
+            // backwards so every row is found from the index
+            for (int r = height - 1; r >= 0; r--) {
+                this.checkEquals(
+                    Lists.of("a" + r, "b\n" + r),
+                    table.row(r),
+                    "row " + r
+                );
+            }
+
+            // forwards so every row continues from the previous row
+            for (int r = 0; r < height; r++) {
+                this.checkEquals(
+                    "a" + r,
+                    table.cell(0, r),
+                    "row " + r
+                );
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableUnclosedDoubleQuoteFails() throws IOException {
+        final Path path = this.file("a,\"b");
+        try {
+            final Table table = CsvFileTableBiFunction.table(
+                path,
+                CHARSET,
+                ','
+            );
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> table.cell(0, 0)
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTableSetCell() throws IOException {
+        final Path path = this.file("a,b\nc,d");
+        try {
+            final Table table = CsvFileTableBiFunction.table(
+                path,
+                CHARSET,
+                ','
+            ).setCell(1, 0, "x");
+
+            this.checkEquals(
+                Lists.of("a", "x"),
+                table.row(0)
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTextPrettyCsvFileTable() throws IOException {
+        final Path path = this.file("a,b\nc,d");
+        try {
+            this.checkEquals(
+                CsvTableBiFunction.table(
+                    "a,b\nc,d",
+                    ','
+                ),
+                TextPretty.csvFileTable(
+                    path,
+                    CHARSET,
+                    ','
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @SafeVarargs
+    private void tableAndCheck(final String text,
+                               final List<CharSequence>... rows) throws IOException {
+        Table expected = Table.empty();
+
+        int row = 0;
+        for (final List<CharSequence> rowText : rows) {
+            expected = expected.setRow(
+                row,
+                rowText
+            );
+            row++;
+        }
+
+        final Path path = this.file(text);
+        try {
+            final Table table = CsvFileTableBiFunction.table(
+                path,
+                CHARSET,
+                ','
+            );
+
+            this.checkEquals(
+                expected.width(),
+                table.width(),
+                () -> "width " + text
+            );
+            this.checkEquals(
+                expected.height(),
+                table.height(),
+                () -> "height " + text
+            );
+            this.checkEquals(
+                expected,
+                table,
+                () -> text
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private Path file(final String text) throws IOException {
+        final Path path = Files.createTempFile(
+            this.getClass().getSimpleName(),
+            ".csv"
+        );
+        Files.write(
+            path,
+            text.getBytes(CHARSET)
+        );
+        return path;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CsvFileTableBiFunction> type() {
+        return CsvFileTableBiFunction.class;
+    }
+}
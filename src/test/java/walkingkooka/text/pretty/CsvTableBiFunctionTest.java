@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CsvTableBiFunctionTest extends TextPrettyTestCase<CsvTableBiFunction>
+    implements ClassTesting2<CsvTableBiFunction> {
+
+    @Test
+    public void testTableNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CsvTableBiFunction.table(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testTableEmptyText() {
+        assertSame(
+            Table.empty(),
+            CsvTableBiFunction.table(
+                "",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testTableOneLine() {
+        this.tableAndCheck(
+            "a,b,c",
+            Lists.of("a", "b", "c")
+        );
+    }
+
+    @Test
+    public void testTableTrailingLineEnding() {
+        this.tableAndCheck(
+            "a,b\n",
+            Lists.of("a", "b")
+        );
+    }
+
+    @Test
+    public void testTableManyLines() {
+        this.tableAndCheck(
+            "a,b\nc,d\ne,f",
+            Lists.of("a", "b"),
+            Lists.of("c", "d"),
+            Lists.of("e", "f")
+        );
+    }
+
+    @Test
+    public void testTableCarriageReturnLineFeed() {
+        this.tableAndCheck(
+            "a,b\r\nc,d\r\n",
+            Lists.of("a", "b"),
+            Lists.of("c", "d")
+        );
+    }
+
+    @Test
+    public void testTableDifferentFieldCounts() {
+        this.tableAndCheck(
+            "a\nb,c,d\ne,f",
+            Lists.of("a", "", ""),
+            Lists.of("b", "c", "d"),
+            Lists.of("e", "f", "")
+        );
+    }
+
+    @Test
+    public void testTableEmptyLine() {
+        this.tableAndCheck(
+            "a,b\n\nc,d",
+            Lists.of("a", "b"),
+            Lists.of("", ""),
+            Lists.of("c", "d")
+        );
+    }
+
+    @Test
+    public void testTableDoubleQuotedDelimiter() {
+        this.tableAndCheck(
+            "\"a,b\",c\nd,e",
+            Lists.of("a,b", "c"),
+            Lists.of("d", "e")
+        );
+    }
+
+    @Test
+    public void testTableDoubleQuotedLineEnding() {
+        this.tableAndCheck(
+            "\"a\nb\",c\nd,e",
+            Lists.of("a\nb", "c"),
+            Lists.of("d", "e")
+        );
+    }
+
+    @Test
+    public void testTableEscapedDoubleQuote() {
+        this.tableAndCheck(
+            "\"a\"\"b\",c",
+            Lists.of("a\"b", "c")
+        );
+    }
+
+    @Test
+    public void testTableUnclosedDoubleQuoteFails() {
+        final Table table = CsvTableBiFunction.table(
+            "a,\"b",
+            ','
+        );
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> table.cell(0, 0)
+        );
+    }
+
+    @Test
+    public void testTableCellAfterRowRead() {
+        final Table table = CsvTableBiFunction.table(
+            "a,b\nc,d",
+            ','
+        );
+
+        this.checkEquals(
+            Lists.of("c", "d"),
+            table.row(1)
+        );
+        this.checkEquals(
+            "a",
+            table.cell(0, 0)
+        );
+        this.checkEquals(
+            "d",
+            table.cell(1, 1)
+        );
+    }
+
+    @Test
+    public void testTableSetCell() {
+        final Table table = CsvTableBiFunction.table(
+            "a,b\nc,d",
+            ','
+        ).setCell(1, 0, "x");
+
+        this.checkEquals(
+            Lists.of("a", "x"),
+            table.row(0)
+        );
+    }
+
+    @Test
+    public void testTableStringBuilderModifiedAfter() {
+        final StringBuilder text = new StringBuilder("a,b\nc,d");
+        final Table table = CsvTableBiFunction.table(
+            text,
+            ','
+        );
+
+        text.setLength(0);
+        text.append("1,2\n3,4");
+
+        this.checkEquals(
+            Lists.of("c", "d"),
+            table.row(1)
+        );
+    }
+
+    @SafeVarargs
+    private void tableAndCheck(final String text,
+                               final List<CharSequence>... rows) {
+        Table expected = Table.empty();
+
+        int row = 0;
+        for (final List<CharSequence> rowText : rows) {
+            expected = expected.setRow(
+                row,
+                rowText
+            );
+            row++;
+        }
+
+        final Table table = CsvTableBiFunction.table(
+            text,
+            ','
+        );
+
+        this.checkEquals(
+            expected.width(),
+            table.width(),
+            () -> "width " + text
+        );
+        this.checkEquals(
+            expected.height(),
+            table.height(),
+            () -> "height " + text
+        );
+        this.checkEquals(
+            expected,
+            table,
+            () -> text
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CsvTableBiFunction> type() {
+        return CsvTableBiFunction.class;
+    }
+}
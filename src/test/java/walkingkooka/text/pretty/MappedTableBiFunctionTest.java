@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.util.function.BiFunction;
+
+public final class MappedTableBiFunctionTest extends TextPrettyTestCase<MappedTableBiFunction>
+    implements ClassTesting2<MappedTableBiFunction> {
+
+    @Test
+    public void testIdentity() {
+        final MappedTableBiFunction mapped = this.createFunction();
+
+        this.applyAndCheck(mapped, 0, 0, "r0c0");
+        this.applyAndCheck(mapped, 2, 1, "r1c2");
+        this.applyAndCheck(mapped, 3, 0, null);
+        this.applyAndCheck(mapped, 0, 2, null);
+    }
+
+    @Test
+    public void testSetRows() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .setRows(new int[]{1, -1, 0});
+
+        this.applyAndCheck(mapped, 0, 0, "r1c0");
+        this.applyAndCheck(mapped, 0, 1, null);
+        this.applyAndCheck(mapped, 2, 2, "r0c2");
+        this.applyAndCheck(mapped, 0, 3, null);
+    }
+
+    @Test
+    public void testSetColumns() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .setColumns(new int[]{2, -1, 2});
+
+        this.applyAndCheck(mapped, 0, 0, "r0c2");
+        this.applyAndCheck(mapped, 1, 0, null);
+        this.applyAndCheck(mapped, 2, 1, "r1c2");
+        this.applyAndCheck(mapped, 3, 1, null);
+    }
+
+    @Test
+    public void testWindow() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .window(1, 1, 5, 5);
+
+        this.applyAndCheck(mapped, 0, 0, "r1c1");
+        this.applyAndCheck(mapped, 1, 0, "r1c2");
+        this.applyAndCheck(mapped, 2, 0, null);
+        this.applyAndCheck(mapped, 0, 1, null);
+    }
+
+    @Test
+    public void testWindowAfterLastColumn() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .window(5, 0, 2, 2);
+
+        this.applyAndCheck(mapped, 0, 0, null);
+    }
+
+    @Test
+    public void testWindowOfSetRows() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .setRows(new int[]{1, 0, 1})
+            .window(0, 1, 3, 1);
+
+        this.applyAndCheck(mapped, 0, 0, "r0c0");
+        this.applyAndCheck(mapped, 0, 1, null);
+    }
+
+    @Test
+    public void testTranspose() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .transpose();
+
+        this.applyAndCheck(mapped, 0, 0, "r0c0");
+        this.applyAndCheck(mapped, 1, 2, "r1c2");
+        this.applyAndCheck(mapped, 2, 1, null);
+    }
+
+    @Test
+    public void testTransposeSetRowsTranspose() {
+        final MappedTableBiFunction mapped = this.createFunction()
+            .transpose()
+            .setRows(new int[]{2, 0})
+            .transpose();
+
+        // rows of the transposed are the columns
+        this.applyAndCheck(mapped, 0, 0, "r0c2");
+        this.applyAndCheck(mapped, 1, 1, "r1c0");
+        this.applyAndCheck(mapped, 2, 0, null);
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            "cells",
+            this.createFunction()
+                .toString()
+        );
+    }
+
+    private void applyAndCheck(final MappedTableBiFunction mapped,
+                               final int column,
+                               final int row,
+                               final CharSequence expected) {
+        this.checkEquals(
+            expected,
+            mapped.apply(
+                column,
+                row
+            ),
+            () -> "cell " + column + "," + row
+        );
+    }
+
+    /**
+     * 3 columns by 2 rows.
+     */
+    private MappedTableBiFunction createFunction() {
+        return MappedTableBiFunction.with(
+            new BiFunction<Integer, Integer, CharSequence>() {
+                @Override
+                public CharSequence apply(final Integer column,
+                                          final Integer row) {
+                    return "r" + row + "c" + column;
+                }
+
+                @Override
+                public String toString() {
+                    return "cells";
+                }
+            },
+            3,
+            2
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<MappedTableBiFunction> type() {
+        return MappedTableBiFunction.class;
+    }
+}
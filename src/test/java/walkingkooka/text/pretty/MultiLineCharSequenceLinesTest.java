@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MultiLineCharSequenceLinesTest implements ClassTesting<MultiLineCharSequenceLines> {
+
+    private final static String TEXT = "abc\n\r\n12345";
+
+    @Test
+    public void testGet() {
+        this.checkEquals(
+            Lists.of("abc", "", "12345"),
+            this.createLines()
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createLines()
+                .get(3)
+        );
+    }
+
+    @Test
+    public void testGetTwiceSame() {
+        final MultiLineCharSequenceLines lines = this.createLines();
+
+        assertSame(
+            lines.get(2),
+            lines.get(2)
+        );
+    }
+
+    @Test
+    public void testLineLength() {
+        final MultiLineCharSequenceLines lines = this.createLines();
+
+        this.checkEquals(
+            3,
+            lines.lineLength(0),
+            "line 0"
+        );
+        this.checkEquals(
+            0,
+            lines.lineLength(1),
+            "line 1"
+        );
+        this.checkEquals(
+            5,
+            lines.lineLength(2),
+            "line 2"
+        );
+    }
+
+    @Test
+    public void testSize() {
+        this.checkEquals(
+            3,
+            this.createLines()
+                .size()
+        );
+    }
+
+    private MultiLineCharSequenceLines createLines() {
+        return MultiLineCharSequenceLines.with(
+            TEXT,
+            new int[]{0, 3, 4, 4, 6, 11, 0, 0},
+            3
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<MultiLineCharSequenceLines> type() {
+        return MultiLineCharSequenceLines.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequenceTesting2;
+import walkingkooka.text.LineEnding;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class MultiLineCharSequenceSubSequenceTest extends TextPrettyTestCase<MultiLineCharSequenceSubSequence>
+    implements CharSequenceTesting2<MultiLineCharSequenceSubSequence> {
+
+    // "abc\n123\nxyz\n"
+    private final static MultiLineCharSequence CHARS = MultiLineCharSequence.with(
+        Lists.of("abc", "123", "xyz"),
+        LineEnding.NL
+    );
+
+    private final static String TOSTRING = "c\n123\nx";
+
+    @Test
+    public void testLength() {
+        this.lengthAndCheck(TOSTRING.length());
+    }
+
+    @Test
+    public void testCharAt() {
+        final MultiLineCharSequenceSubSequence chars = this.createCharSequence();
+
+        for (int i = 0; i < TOSTRING.length(); i++) {
+            this.charAtAndCheck(
+                chars,
+                i,
+                TOSTRING.charAt(i)
+            );
+        }
+    }
+
+    @Test
+    public void testSubSequenceAll() {
+        final MultiLineCharSequenceSubSequence chars = this.createCharSequence();
+        assertSame(
+            chars,
+            chars.subSequence(0, TOSTRING.length())
+        );
+    }
+
+    @Test
+    public void testSubSequenceLine() {
+        this.subSequenceAndCheck(
+            2,
+            5,
+            "123"
+        );
+    }
+
+    @Test
+    public void testSubSequenceSpanningLines() {
+        this.subSequenceAndCheck(
+            1,
+            7,
+            "\n123\nx"
+        );
+    }
+
+    @Test
+    public void testEqualsSameCharacters() {
+        this.checkEquals(
+            MultiLineCharSequenceSubSequence.with(
+                MultiLineCharSequence.parse(
+                    "abc\n123\nxyz\n",
+                    LineEnding.NL
+                ),
+                2,
+                9
+            ),
+            this.createCharSequence()
+        );
+    }
+
+    @Test
+    public void testEqualsStringNotEqual() {
+        this.checkEquals(
+            false,
+            this.createCharSequence()
+                .equals(TOSTRING)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createCharSequence(), TOSTRING);
+    }
+
+    @Test
+    public void testToStringStartsAndEndsWithLineEnding() {
+        this.toStringAndCheck(
+            MultiLineCharSequenceSubSequence.with(
+                MultiLineCharSequence.with(
+                    Lists.of("abc", "", "xyz"),
+                    LineEnding.CRNL
+                ),
+                4,
+                7
+            ),
+            "\n\r\n"
+        );
+    }
+
+    @Test
+    public void testToStringEveryRange() {
+        final String text = CHARS.toString();
+
+        for (int start = 0; start < text.length(); start++) {
+            for (int end = start + 1; end <= text.length(); end++) {
+                this.toStringAndCheck(
+                    MultiLineCharSequenceSubSequence.with(
+                        CHARS,
+                        start,
+                        end
+                    ),
+                    text.substring(start, end)
+                );
+            }
+        }
+    }
+
+    @Override
+    public MultiLineCharSequenceSubSequence createCharSequence() {
+        return MultiLineCharSequenceSubSequence.with(
+            CHARS,
+            2,
+            9
+        );
+    }
+
+    @Override
+    public MultiLineCharSequenceSubSequence createObject() {
+        return this.createCharSequence();
+    }
+
+    @Override
+    public Class<MultiLineCharSequenceSubSequence> type() {
+        return MultiLineCharSequenceSubSequence.class;
+    }
+}
@@ -795,6 +795,95 @@ public final class MultiLineCharSequenceTest extends TextPrettyTestCase<MultiLin
         }
     }
 
+    @Test
+    public void testParseManyLines() {
+        final StringBuilder text = new StringBuilder();
+        final List<CharSequence> lines = Lists.array();
+
+        for (int i = 0; i < 20; i++) {
+            final String line = "line" + i;
+            text.append(line)
+                .append(0 == i % 2 ? "\n" : "\r\n");
+            lines.add(line);
+        }
+
+        this.checkEquals(
+            lines,
+            MultiLineCharSequence.parse(
+                text,
+                EOL
+            ).lines
+        );
+    }
+
+    @Test
+    public void testParseStringBuilderThenModified() {
+        final StringBuilder text = new StringBuilder("abc\n123");
+        final MultiLineCharSequence chars = MultiLineCharSequence.parse(
+            text,
+            EOL
+        );
+        text.setLength(0);
+
+        this.checkEquals(
+            Lists.of("abc", "123"),
+            chars.lines
+        );
+    }
+
+    @Test
+    public void testSubSequenceSpanningLinesView() {
+        final CharSequence chars = this.createCharSequence()
+            .subSequence(
+                1,
+                (LINE1 + EOL).length() + 1
+            );
+
+        this.checkEquals(
+            MultiLineCharSequenceSubSequence.class,
+            chars.getClass(),
+            chars::toString
+        );
+    }
+
+    @Test
+    public void testSubSequenceEveryRange() {
+        final MultiLineCharSequence chars = MultiLineCharSequence.with(
+            Lists.of(LINE1, "", LINE2, "", LINE3),
+            LineEnding.CRNL
+        );
+        final String text = chars.toString();
+        final int length = text.length();
+
+        for (int start = 0; start <= length; start++) {
+            for (int end = start; end <= length; end++) {
+                this.subSequenceAndCheck(
+                    chars,
+                    start,
+                    end,
+                    text.substring(start, end)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testCharAtEmptyLines() {
+        final MultiLineCharSequence chars = MultiLineCharSequence.with(
+            Lists.of("", LINE1, "", "", LINE2),
+            EOL
+        );
+        final String text = chars.toString();
+
+        for (int i = 0; i < text.length(); i++) {
+            this.charAtAndCheck(
+                chars,
+                i,
+                text.charAt(i)
+            );
+        }
+    }
+
     @Override
     public MultiLineCharSequence createCharSequence() {
         return MultiLineCharSequence.with(LINES, EOL);
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TableBuilderTest implements ClassTesting2<TableBuilder> {
+
+    @Test
+    public void testWithNullTableFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TableBuilder.with(null)
+        );
+    }
+
+    @Test
+    public void testSetCellInvalidColumnFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> TableBuilder.empty()
+                .setCell(-1, 0, "A")
+        );
+    }
+
+    @Test
+    public void testSetCellInvalidRowFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> TableBuilder.empty()
+                .setCell(0, -1, "A")
+        );
+    }
+
+    @Test
+    public void testSetRowInvalidRowFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> TableBuilder.empty()
+                .setRow(-1, Lists.of("A"))
+        );
+    }
+
+    @Test
+    public void testSetRowNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TableBuilder.empty()
+                .setRow(0, null)
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        assertSame(
+            Table.empty(),
+            TableBuilder.empty()
+                .build()
+        );
+    }
+
+    @Test
+    public void testBuildOnlyEmptyCells() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setCell(1, 2, ""),
+            Table.empty()
+                .setCell(1, 2, "")
+        );
+    }
+
+    @Test
+    public void testSetCell() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setCell(0, 0, "r0c0")
+                .setCell(2, 1, "r1c2"),
+            Table.empty()
+                .setCell(0, 0, "r0c0")
+                .setCell(2, 1, "r1c2")
+        );
+    }
+
+    @Test
+    public void testSetCellReplaced() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setCell(0, 0, "r0c0")
+                .setCell(1, 0, "r0c1")
+                .setCell(0, 0, "replaced"),
+            Table.empty()
+                .setRow(
+                    0,
+                    Lists.of("replaced", "r0c1")
+                )
+        );
+    }
+
+    @Test
+    public void testSetCellCleared() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setCell(0, 0, "r0c0")
+                .setCell(1, 0, "r0c1")
+                .setCell(0, 0, ""),
+            Table.empty()
+                .setCell(1, 0, "r0c1")
+        );
+    }
+
+    @Test
+    public void testSetCellClearedRow() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setRow(0, Lists.of("r0c0"))
+                .setRow(1, Lists.of("r1c0", "r1c1"))
+                .setCell(0, 1, "")
+                .setCell(1, 1, ""),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0"))
+                .setRow(1, Lists.of("r1c0", "r1c1"))
+                .setCell(0, 1, "")
+                .setCell(1, 1, "")
+        );
+    }
+
+    @Test
+    public void testSetColumn() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setRow(1, Lists.of("r1c0", "r1c1"))
+                .setColumn(1, Lists.of("A", "B", "C")),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setRow(1, Lists.of("r1c0", "r1c1"))
+                .setColumn(1, Lists.of("A", "B", "C"))
+        );
+    }
+
+    @Test
+    public void testSetColumnEmptyAfterLastColumn() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setColumn(2, Lists.empty()),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+        );
+    }
+
+    @Test
+    public void testSetRow() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setRow(2, Lists.of("r2c0", "r2c1", "r2c2")),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setRow(2, Lists.of("r2c0", "r2c1", "r2c2"))
+        );
+    }
+
+    @Test
+    public void testSetRowAndSetCell() {
+        this.buildAndCheck(
+            TableBuilder.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setCell(1, 1, "r1c1"),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setCell(1, 1, "r1c1")
+        );
+    }
+
+    @Test
+    public void testSetRowMany() {
+        final TableBuilder builder = TableBuilder.empty();
+        Table table = Table.empty();
+
+        for (int i = 0; i < 100; i++) {
+            builder.setRow(i, Lists.of("a" + i, "b" + i));
+            table = table.setRow(i, Lists.of("a" + i, "b" + i));
+        }
+
+        this.buildAndCheck(
+            builder,
+            table
+        );
+    }
+
+    @Test
+    public void testWithTable() {
+        final Table table = Table.empty()
+            .setRow(0, Lists.of("r0c0", "r0c1"))
+            .setRow(1, Lists.of("r1c0", "r1c1"));
+
+        this.buildAndCheck(
+            TableBuilder.with(table)
+                .setCell(2, 1, "r1c2"),
+            table.setCell(2, 1, "r1c2")
+        );
+
+        this.checkEquals(
+            Table.empty()
+                .setRow(0, Lists.of("r0c0", "r0c1"))
+                .setRow(1, Lists.of("r1c0", "r1c1")),
+            table,
+            "original table should be unmodified"
+        );
+    }
+
+    @Test
+    public void testWithTableAfterSetHeight() {
+        final Table table = Table.empty()
+            .setRow(0, Lists.of("r0c0"))
+            .setRow(1, Lists.of("r1c0"))
+            .setRow(2, Lists.of("r2c0"))
+            .setHeight(1);
+
+        this.buildAndCheck(
+            TableBuilder.with(table)
+                .setCell(1, 2, "r2c1"),
+            Table.empty()
+                .setRow(0, Lists.of("r0c0"))
+                .setCell(1, 2, "r2c1")
+        );
+    }
+
+    @Test
+    public void testBuildThenUpdateDoesNotChangeBuiltTable() {
+        final TableBuilder builder = TableBuilder.empty()
+            .setCell(0, 0, "r0c0")
+            .setCell(1, 1, "r1c1");
+
+        final Table table = builder.build();
+        final String tableToString = table.toString();
+
+        builder.setCell(0, 0, "different")
+            .setCell(1, 1, "")
+            .setCell(4, 3, "r3c4")
+            .setRow(1, Lists.of("r1c0"));
+
+        this.checkEquals(
+            tableToString,
+            table.toString(),
+            "built table should be unmodified"
+        );
+
+        this.buildAndCheck(
+            builder,
+            Table.empty()
+                .setCell(0, 0, "different")
+                .setRow(1, Lists.of("r1c0"))
+                .setCell(4, 3, "r3c4")
+        );
+    }
+
+    @Test
+    public void testHeight() {
+        this.checkEquals(
+            3,
+            TableBuilder.empty()
+                .setCell(0, 2, "r2c0")
+                .height()
+        );
+    }
+
+    @Test
+    public void testTextPrettyTableBuilder() {
+        this.buildAndCheck(
+            TextPretty.tableBuilder()
+                .setCell(1, 1, "r1c1"),
+            TextPretty.table()
+                .setCell(1, 1, "r1c1")
+        );
+    }
+
+    private void buildAndCheck(final TableBuilder builder,
+                               final Table expected) {
+        final Table table = builder.build();
+
+        this.checkEquals(
+            expected,
+            table,
+            () -> builder + " build"
+        );
+        this.checkEquals(
+            expected.width(),
+            table.width(),
+            () -> "width of " + table
+        );
+        this.checkEquals(
+            expected.height(),
+            table.height(),
+            () -> "height of " + table
+        );
+    }
+
+    // ClassTesting2....................................................................................................
+
+    @Override
+    public Class<TableBuilder> type() {
+        return TableBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -57,6 +57,36 @@ public final class TableCollectorColumnTest extends TableCollectorTestCase2<Tabl
         );
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testNotEmptyTableWiderThanCells() {
+        this.collectAndCheck(
+            Table.empty()
+                .setCell(0, 0, "cell-0-0")
+                .setWidth(5),
+            1,
+            Lists.of("column1-a", "column1-b")
+        );
+    }
+
+    @Test
+    public void testManyColumns() {
+        final List<List<CharSequence>> all = Lists.array();
+        Table table = Table.empty();
+
+        for (int i = 0; i < 1000; i++) {
+            final List<CharSequence> column = Lists.of("column" + i + "-a", "column" + i + "-b");
+            all.add(column);
+            table = table.setColumn(i, column);
+        }
+
+        this.checkEquals(
+            table,
+            all.stream()
+                .collect(this.createCollector(Table.empty(), 0))
+        );
+    }
+
     @SafeVarargs
     @Override final Table add(final Table table,
                               final int start,
@@ -56,6 +56,36 @@ public final class TableCollectorRowTest extends TableCollectorTestCase2<TableCo
         );
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testNotEmptyTableWiderThanCells() {
+        this.collectAndCheck(
+            Table.empty()
+                .setCell(0, 0, "cell-0-0")
+                .setWidth(5),
+            1,
+            Lists.of("row1-a", "row1-b")
+        );
+    }
+
+    @Test
+    public void testManyRows() {
+        final List<List<CharSequence>> all = Lists.array();
+        Table table = Table.empty();
+
+        for (int i = 0; i < 1000; i++) {
+            final List<CharSequence> row = Lists.of("row" + i + "-a", "row" + i + "-b");
+            all.add(row);
+            table = table.setRow(i, row);
+        }
+
+        this.checkEquals(
+            table,
+            all.stream()
+                .collect(this.createCollector(Table.empty(), 0))
+        );
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     Table add(final Table table,
@@ -21,7 +21,6 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.ToStringTesting;
 import walkingkooka.collect.list.Lists;
 
-import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -42,13 +41,55 @@ public abstract class TableCollectorTestCase2<C extends TableCollector> extends
     // Collector.........................................................................................................
 
     @Test
-    public final void testParallelStreamFails() {
-        assertThrows(
-            UnsupportedOperationException.class,
-            () -> Arrays.<List<CharSequence>>asList(Lists.of("a"), Lists.of("b"))
-                .stream()
-                .parallel()
-                .collect(this.createCollector(Table.empty(), 0))
+    public final void testParallelStream() {
+        final Table table = Table.empty()
+            .setCell(1, 2, "cell-a1");
+        final List<List<CharSequence>> all = Lists.array();
+
+        for (int i = 0; i < 1000; i++) {
+            all.add(
+                Lists.of("a" + i, "b" + i)
+            );
+        }
+
+        this.checkEquals(
+            all.stream()
+                .collect(this.createCollector(table, 1)),
+            all.parallelStream()
+                .collect(this.createCollector(table, 1))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCombiner() {
+        final C collector = this.createCollector(Table.empty(), 0);
+
+        final List<List<CharSequence>> left = collector.supplier()
+            .get();
+        collector.accumulator()
+            .accept(left, Lists.of("a"));
+
+        final List<List<CharSequence>> right = collector.supplier()
+            .get();
+        collector.accumulator()
+            .accept(right, Lists.of("b"));
+        collector.accumulator()
+            .accept(right, Lists.of("c"));
+
+        this.checkEquals(
+            this.add(
+                Table.empty(),
+                0,
+                Lists.of("a"),
+                Lists.of("b"),
+                Lists.of("c")
+            ),
+            collector.finisher()
+                .apply(
+                    collector.combiner()
+                        .apply(left, right)
+                )
         );
     }
 
@@ -74,6 +115,47 @@ public abstract class TableCollectorTestCase2<C extends TableCollector> extends
             .collect(this.createCollector(table, start)));
     }
 
+    @Test
+    public final void testCollectorReused() {
+        final Table table = Table.empty()
+            .setCell(1, 2, "cell-a1");
+        final C collector = this.createCollector(table, 0);
+
+        final Table first = Lists.<List<CharSequence>>of(Lists.of("a", "b"))
+            .stream()
+            .collect(collector);
+        final Table second = Lists.<List<CharSequence>>of(Lists.of("a", "b"))
+            .stream()
+            .collect(collector);
+
+        this.checkEquals(
+            first,
+            second
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testDataModifiedAfterAccumulateIgnored() {
+        final Table table = Table.empty();
+        final List<CharSequence> data = Lists.array();
+        data.add("a");
+
+        final C collector = this.createCollector(table, 0);
+        final List<List<CharSequence>> all = collector.supplier()
+            .get();
+        collector.accumulator()
+            .accept(all, data);
+
+        data.set(0, "different");
+
+        this.checkEquals(
+            this.add(table, 0, Lists.of("a")),
+            collector.finisher()
+                .apply(all)
+        );
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TableColumnsTest extends TableTestCase<TableColumns>
+    implements ToStringTesting<TableColumns> {
+
+    @Test
+    public void testWithEmptyTable() {
+        final TableColumns columns = TableColumns.with(
+            Table.empty(),
+            Integer.MAX_VALUE
+        );
+
+        this.checkEquals(
+            0,
+            columns.width(),
+            "width"
+        );
+        this.checkEquals(
+            0,
+            columns.height(),
+            "height"
+        );
+    }
+
+    @Test
+    public void testWidthAndHeight() {
+        final TableColumns columns = this.createTableColumns();
+
+        this.checkEquals(
+            3,
+            columns.width(),
+            "width"
+        );
+        this.checkEquals(
+            3,
+            columns.height(),
+            "height"
+        );
+    }
+
+    @Test
+    public void testColumn() {
+        this.columnAndCheck(
+            0,
+            "r0c0", "r1c0", ""
+        );
+    }
+
+    @Test
+    public void testColumnMissingCells() {
+        this.columnAndCheck(
+            2,
+            "", "", "r2c2"
+        );
+    }
+
+    @Test
+    public void testColumnSameAsTableColumn() {
+        final Table table = this.createTable();
+        final TableColumns columns = TableColumns.with(
+            table,
+            Integer.MAX_VALUE
+        );
+
+        for (int c = 0; c < table.width(); c++) {
+            this.checkEquals(
+                table.column(c),
+                columns.column(c),
+                "column " + c
+            );
+        }
+    }
+
+    @Test
+    public void testColumnAfterTableSetWidth() {
+        final TableColumns columns = TableColumns.with(
+            this.createTable()
+                .setWidth(2),
+            Integer.MAX_VALUE
+        );
+
+        this.checkEquals(
+            2,
+            columns.width(),
+            "width"
+        );
+        this.checkEquals(
+            Lists.of("", "r1c1", "r2c1"),
+            columns.column(1)
+        );
+    }
+
+    @Test
+    public void testColumnVirtualTable() {
+        final TableColumns columns = TableColumns.with(
+            TableVirtual.with(
+                2,
+                3,
+                (c, r) -> 1 == r ?
+                    null :
+                    "r" + r + "c" + c
+            ).setCell(1, 2, "x"),
+            Integer.MAX_VALUE
+        );
+
+        this.checkEquals(
+            Lists.of("r0c1", "", "x"),
+            columns.column(1)
+        );
+    }
+
+    @Test
+    public void testColumnVirtualTableFewerColumnsNotComputed() {
+        final TableColumns columns = TableColumns.with(
+            TableVirtual.with(
+                3,
+                2,
+                (c, r) -> {
+                    if (c > 0) {
+                        throw new AssertionError("Column " + c + " computed");
+                    }
+                    return "r" + r + "c" + c;
+                }
+            ),
+            1
+        );
+
+        this.checkEquals(
+            Lists.of("r0c0", "r1c0"),
+            columns.column(0)
+        );
+    }
+
+    @Test
+    public void testWithRows() {
+        final Table table = this.createTable();
+        final TableColumns columns = TableColumns.with(
+            table.rows(),
+            table.width(),
+            table.height(),
+            2
+        );
+
+        this.checkEquals(
+            2,
+            columns.width(),
+            "width"
+        );
+        this.checkEquals(
+            Lists.of("", "r1c1", "r2c1"),
+            columns.column(1)
+        );
+    }
+
+    @Test
+    public void testWithFewerColumns() {
+        final TableColumns columns = TableColumns.with(
+            this.createTable(),
+            2
+        );
+
+        this.checkEquals(
+            2,
+            columns.width(),
+            "width"
+        );
+        this.checkEquals(
+            3,
+            columns.height(),
+            "height"
+        );
+        this.checkEquals(
+            Lists.of("", "r1c1", "r2c1"),
+            columns.column(1)
+        );
+    }
+
+    @Test
+    public void testColumnReadOnly() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> this.createTableColumns()
+                .column(0)
+                .set(0, "different")
+        );
+    }
+
+    private void columnAndCheck(final int column,
+                                final CharSequence... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            this.createTableColumns()
+                .column(column),
+            () -> "column " + column
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createTableColumns(),
+            "[[r0c0, r1c0, ], [, r1c1, r2c1], [, , r2c2]]"
+        );
+    }
+
+    private TableColumns createTableColumns() {
+        return TableColumns.with(
+            this.createTable(),
+            Integer.MAX_VALUE
+        );
+    }
+
+    private Table createTable() {
+        return Table.empty()
+            .setCell(0, 0, "r0c0")
+            .setCell(0, 1, "r1c0")
+            .setCell(1, 1, "r1c1")
+            .setCell(1, 2, "r2c1")
+            .setCell(2, 2, "r2c2");
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TableColumns> type() {
+        return TableColumns.class;
+    }
+}
@@ -23,6 +23,8 @@ import walkingkooka.collect.list.Lists;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class TableNotEmptyListRowTest extends TableNotEmptyListTestCase<TableNotEmptyListRow, CharSequence> implements
     IteratorTesting {
 
@@ -156,6 +158,270 @@ public final class TableNotEmptyListRowTest extends TableNotEmptyListTestCase<Ta
         }
     }
 
+    @Test
+    public void testSetAfterCapacityKeepsSize() {
+        final TableNotEmptyListRow list = TableNotEmptyListRow.empty();
+        list.setAuto(9, null);
+        list.setAuto(4, "a");
+
+        this.checkEquals(
+            10,
+            list.size,
+            "size"
+        );
+    }
+
+    @Test
+    public void testResizeTwiceSame() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "a");
+        row.setWidth(1);
+
+        final TableNotEmptyListRow resized = row.resize(3);
+        assertSame(
+            resized,
+            row.resize(3)
+        );
+        this.checkEquals(
+            3,
+            resized.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testResizeKeepsHashCode() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "a");
+        row.setWidth(1);
+
+        final int hashCode = row.hashCode();
+
+        this.checkEquals(
+            hashCode,
+            row.resize(3).hashCode
+        );
+    }
+
+    @Test
+    public void testSetFarCellSparse() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "first");
+        row.setAuto(9999, "last");
+        row.setWidth(10000);
+
+        this.checkEquals(
+            true,
+            null != row.sparseIndices,
+            "sparse"
+        );
+        this.checkEquals(
+            true,
+            row.elements.length < 100,
+            () -> "capacity " + row.elements.length
+        );
+
+        this.getAndCheck(
+            row,
+            0,
+            "first"
+        );
+        this.getAndCheck(
+            row,
+            5000,
+            TableNotEmptyListRow.MISSING
+        );
+        this.getAndCheck(
+            row,
+            9999,
+            "last"
+        );
+        this.sizeAndCheck(
+            row,
+            10000
+        );
+    }
+
+    @Test
+    public void testSparseRemoveCell() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.sparse(1000);
+        row.setAuto(500, "500");
+        row.setAuto(999, "999");
+        row.setAuto(999, null);
+        row.setWidth(1000);
+
+        this.checkEquals(
+            501,
+            row.elementCount,
+            "elementCount"
+        );
+        this.getAndCheck(
+            row,
+            999,
+            TableNotEmptyListRow.MISSING
+        );
+    }
+
+    @Test
+    public void testSparseBecomesDense() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.sparse(100);
+        for (int i = 0; i < 100; i++) {
+            row.setAuto(i, "column-" + i);
+        }
+        row.setWidth(100);
+
+        this.checkEquals(
+            null,
+            row.sparseIndices,
+            "dense"
+        );
+
+        for (int i = 0; i < 100; i++) {
+            this.getAndCheck(
+                row,
+                i,
+                "column-" + i
+            );
+        }
+    }
+
+    @Test
+    public void testSparseCopy() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.sparse(1000);
+        row.setAuto(999, "999");
+        row.setWidth(1000);
+
+        final TableNotEmptyListRow copy = row.copy();
+        copy.setAuto(500, "500");
+
+        this.getAndCheck(
+            row,
+            500,
+            TableNotEmptyListRow.MISSING
+        );
+        this.getAndCheck(
+            copy,
+            500,
+            "500"
+        );
+        this.getAndCheck(
+            copy,
+            999,
+            "999"
+        );
+    }
+
+    @Test
+    public void testSparseSetWidth() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.sparse(1000);
+        row.setAuto(100, "100");
+        row.setAuto(999, "999");
+        row.setWidth(500);
+
+        this.sizeAndCheck(
+            row,
+            500
+        );
+
+        row.setWidth(1000);
+
+        this.getAndCheck(
+            row,
+            999,
+            TableNotEmptyListRow.MISSING
+        );
+    }
+
+    @Test
+    public void testSparseEqualsDense() {
+        final TableNotEmptyListRow sparse = TableNotEmptyListRow.sparse(1000);
+        sparse.setAuto(999, "999");
+        sparse.setWidth(1000);
+
+        final TableNotEmptyListRow dense = TableNotEmptyListRow.with(1000);
+        dense.setAuto(999, "999");
+        dense.setWidth(1000);
+
+        this.checkEquals(
+            dense,
+            sparse
+        );
+        this.checkEquals(
+            dense.hashCode(),
+            sparse.hashCode(),
+            "hashCode"
+        );
+        this.checkEquals(
+            true,
+            sparse.same(dense),
+            "same"
+        );
+    }
+
+    @Test
+    public void testHashCodeAfterSetAuto() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "a");
+        row.setWidth(2);
+        row.hashCode();
+
+        row.setAuto(1, "b");
+
+        final TableNotEmptyListRow expected = TableNotEmptyListRow.empty();
+        expected.setAuto(0, "a");
+        expected.setAuto(1, "b");
+        expected.setWidth(2);
+
+        this.checkEquals(
+            expected.hashCode(),
+            row.hashCode(),
+            "hashCode"
+        );
+        this.checkEquals(
+            expected,
+            row
+        );
+    }
+
+    @Test
+    public void testHashCodeAfterSetWidth() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "a");
+        row.setAuto(1, "b");
+        row.setWidth(2);
+        row.hashCode();
+
+        row.setWidth(1);
+
+        final TableNotEmptyListRow expected = TableNotEmptyListRow.empty();
+        expected.setAuto(0, "a");
+        expected.setWidth(1);
+
+        this.checkEquals(
+            expected.hashCode(),
+            row.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentHashCodes() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "a");
+        row.setWidth(1);
+        row.hashCode();
+
+        final TableNotEmptyListRow other = TableNotEmptyListRow.empty();
+        other.setAuto(0, "b");
+        other.setWidth(1);
+        other.hashCode();
+
+        this.checkNotEquals(
+            row,
+            other
+        );
+    }
+
     @Test
     public void testIterator() {
         final List<CharSequence> list = Lists.array();
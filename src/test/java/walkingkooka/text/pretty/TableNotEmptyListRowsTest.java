@@ -19,6 +19,9 @@ package walkingkooka.text.pretty;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class TableNotEmptyListRowsTest extends TableNotEmptyListTestCase<TableNotEmptyListRows, TableNotEmptyListRow> {
 
     @Test
@@ -120,6 +123,530 @@ public final class TableNotEmptyListRowsTest extends TableNotEmptyListTestCase<T
         );
     }
 
+    @Test
+    public void testSetWidthWiderGetRow() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setWidth(1);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(3);
+
+        this.checkEquals(
+            1,
+            row.width,
+            "row width unchanged"
+        );
+        this.checkEquals(
+            3,
+            rows.get(0).size(),
+            "row size"
+        );
+        assertSame(
+            row.elements,
+            rows.get(0).elements,
+            "cells shared"
+        );
+        assertSame(
+            row,
+            rows.elements[0],
+            "row not replaced"
+        );        assertSame(
+            rows.get(0),
+            rows.get(0),
+            "row read again"
+        );
+    }
+
+    @Test
+    public void testGetSharedElementsDifferentWidths() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setWidth(1);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(1);
+
+        final TableNotEmptyListRows appended = rows.append(2);
+        assertSame(
+            rows.elements,
+            appended.elements,
+            "elements shared"
+        );
+        appended.setWidth(3);
+
+        this.checkEquals(
+            3,
+            appended.get(0).size(),
+            "appended row size"
+        );
+        this.checkEquals(
+            1,
+            rows.get(0).size(),
+            "row size"
+        );
+        this.checkEquals(
+            3,
+            appended.get(0).size(),
+            "appended row size again"
+        );
+        assertSame(
+            row,
+            rows.elements[0],
+            "shared row not replaced"
+        );
+    }
+
+    @Test
+    public void testSetWidthNarrowerClearsCells() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setAuto(2, "C");
+        row.setWidth(3);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(3);
+        rows.setWidth(1);
+
+        this.checkEquals(
+            3,
+            row.width,
+            "original row width unchanged"
+        );
+        this.checkEquals(
+            1,
+            rows.get(0).size(),
+            "row size"
+        );
+
+        rows.setWidth(3);
+        this.checkEquals(
+            null,
+            rows.get(0).elementOrNull(2),
+            "cleared cell"
+        );
+    }
+
+    @Test
+    public void testEqualsRowsWithDifferentWidths() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setWidth(1);
+
+        final TableNotEmptyListRow wider = row.copy();
+        wider.setWidth(2);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(2);
+
+        final TableNotEmptyListRows other = TableNotEmptyListRows.empty();
+        other.setAuto(0, wider);
+        other.setWidth(2);
+
+        this.checkEquals(
+            rows,
+            other
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentWidths() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setWidth(1);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(1);
+
+        final TableNotEmptyListRows other = TableNotEmptyListRows.empty();
+        other.setAuto(0, row);
+        other.setWidth(2);
+
+        this.checkNotEquals(
+            rows,
+            other
+        );
+    }
+
+    @Test
+    public void testEqualsResizedRow() {
+        final TableNotEmptyListRow row = TableNotEmptyListRow.empty();
+        row.setAuto(0, "A");
+        row.setWidth(1);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row);
+        rows.setWidth(2);
+
+        final TableNotEmptyListRows other = TableNotEmptyListRows.empty();
+        other.setAuto(0, row.resize(2));
+        other.setWidth(2);
+
+        this.checkEquals(
+            rows,
+            other
+        );
+    }
+
+    @Test
+    public void testAppendSharesElements() {
+        final TableNotEmptyListRow row0 = TableNotEmptyListRow.empty();
+        row0.setAuto(0, "A");
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+
+        final TableNotEmptyListRow row1 = TableNotEmptyListRow.empty();
+        row1.setAuto(0, "B");
+
+        final TableNotEmptyListRows append = rows.append(2);
+        append.setAuto(1, row1);
+
+        assertSame(
+            rows.elements,
+            append.elements,
+            "elements"
+        );
+        this.check(
+            append,
+            TableNotEmptyList.INITIAL_CAPACITY,
+            2,
+            row0,
+            row1
+        );
+        this.checkEquals(
+            1,
+            rows.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testAppendTwiceCopiesElements() {
+        final TableNotEmptyListRow row0 = TableNotEmptyListRow.empty();
+        row0.setAuto(0, "A");
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+
+        final TableNotEmptyListRows append = rows.append(2);
+        final TableNotEmptyListRows append2 = rows.append(2);
+
+        assertNotSame(
+            append.elements,
+            append2.elements,
+            "elements"
+        );
+    }
+
+    @Test
+    public void testAppendMoreThanCapacityCopiesElements() {
+        final TableNotEmptyListRow row0 = TableNotEmptyListRow.empty();
+        row0.setAuto(0, "A");
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+
+        final TableNotEmptyListRows append = rows.append(TableNotEmptyList.INITIAL_CAPACITY + 1);
+
+        assertNotSame(
+            rows.elements,
+            append.elements,
+            "elements"
+        );
+        this.checkEquals(
+            TableNotEmptyList.INITIAL_CAPACITY * 2,
+            append.elements.length,
+            "capacity"
+        );
+    }
+
+    @Test
+    public void testClearAfterLastRow() {
+        final TableNotEmptyListRow row0 = TableNotEmptyListRow.empty();
+        row0.setAuto(0, "A");
+
+        final TableNotEmptyListRow row1 = TableNotEmptyListRow.empty();
+        row1.setAuto(0, "B");
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+        rows.setAuto(1, row1);
+        rows.size = 1;
+
+        rows.clearAfterLastRow();
+
+        this.checkEquals(
+            1,
+            rows.elementCount,
+            "elementCount"
+        );
+        this.checkEquals(
+            null,
+            rows.elements[1],
+            "cleared row"
+        );
+    }
+
+    @Test
+    public void testInsert() {
+        final TableNotEmptyListRow row0 = this.element(0);
+        final TableNotEmptyListRow row1 = this.element(1);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+        rows.setAuto(1, row1);
+
+        final TableNotEmptyListRows inserted = rows.insert(
+            1,
+            2
+        );
+
+        this.checkEquals(
+            4,
+            inserted.size(),
+            "size"
+        );
+        assertSame(
+            row0,
+            inserted.elements[0],
+            "row 0"
+        );
+        this.checkEquals(
+            null,
+            inserted.elements[1],
+            "inserted row"
+        );
+        assertSame(
+            row1,
+            inserted.elements[3],
+            "row 1"
+        );
+        this.checkEquals(
+            2,
+            rows.size(),
+            "original size"
+        );
+    }
+
+    @Test
+    public void testDelete() {
+        final TableNotEmptyListRow row0 = this.element(0);
+        final TableNotEmptyListRow row1 = this.element(1);
+        final TableNotEmptyListRow row2 = this.element(2);
+
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+        rows.setAuto(0, row0);
+        rows.setAuto(1, row1);
+        rows.setAuto(2, row2);
+
+        final TableNotEmptyListRows deleted = rows.delete(
+            1,
+            2
+        );
+
+        this.checkEquals(
+            2,
+            deleted.size(),
+            "size"
+        );
+        assertSame(
+            row0,
+            deleted.elements[0],
+            "row 0"
+        );
+        assertSame(
+            row2,
+            deleted.elements[1],
+            "row 2"
+        );
+        this.checkEquals(
+            null,
+            deleted.elements[2],
+            "deleted row"
+        );
+        assertSame(
+            row1,
+            rows.elements[1],
+            "original row 1"
+        );
+    }
+
+    @Test
+    public void testSetManyRowsTree() {
+        final TableNotEmptyListRows rows = this.manyRows();
+
+        this.checkEquals(
+            null,
+            rows.elements,
+            "elements"
+        );
+        this.checkEquals(
+            true,
+            null != rows.tree,
+            "tree"
+        );
+        this.getAndCheckMany(rows);
+    }
+
+    @Test
+    public void testCopyManyRowsSharesTree() {
+        final TableNotEmptyListRows rows = this.manyRows();
+        final TableNotEmptyListRows copy = rows.copy();
+
+        assertSame(
+            rows.tree,
+            copy.tree,
+            "tree"
+        );
+
+        final TableNotEmptyListRow row = this.element(999);
+        copy.setAuto(50, row);
+
+        assertSame(
+            row,
+            copy.get(50),
+            "copy row 50"
+        );
+        this.getAndCheckMany(rows);
+    }
+
+    @Test
+    public void testCopyManyRowsThenSetOriginal() {
+        final TableNotEmptyListRows rows = this.manyRows();
+        final TableNotEmptyListRows copy = rows.copy();
+
+        rows.setAuto(50, this.element(999));
+
+        this.getAndCheckMany(copy);
+    }
+
+    @Test
+    public void testInsertManyRows() {
+        final TableNotEmptyListRows rows = this.manyRows();
+
+        final TableNotEmptyListRows inserted = rows.insert(
+            50,
+            1000
+        );
+
+        this.checkEquals(
+            MANY + 1000,
+            inserted.size(),
+            "size"
+        );
+        for (int i = 0; i < 50; i++) {
+            this.checkEquals(
+                rows.get(i),
+                inserted.get(i),
+                "row " + i
+            );
+        }
+        for (int i = 50; i < 1050; i++) {
+            this.checkEquals(
+                null,
+                inserted.element(i),
+                "inserted row " + i
+            );
+        }
+        for (int i = 50; i < MANY; i++) {
+            assertSame(
+                rows.get(i),
+                inserted.get(i + 1000),
+                "row " + i
+            );
+        }
+        this.getAndCheckMany(rows);
+    }
+
+    @Test
+    public void testDeleteManyRows() {
+        final TableNotEmptyListRows rows = this.manyRows();
+
+        final TableNotEmptyListRows deleted = rows.delete(
+            10,
+            150
+        );
+
+        this.checkEquals(
+            MANY - 140,
+            deleted.size(),
+            "size"
+        );
+        for (int i = 0; i < 10; i++) {
+            assertSame(
+                rows.get(i),
+                deleted.get(i),
+                "row " + i
+            );
+        }
+        for (int i = 150; i < MANY; i++) {
+            assertSame(
+                rows.get(i),
+                deleted.get(i - 140),
+                "row " + i
+            );
+        }
+        this.getAndCheckMany(rows);
+    }
+
+    @Test
+    public void testClearAfterLastRowManyRows() {
+        final TableNotEmptyListRows rows = this.manyRows();
+        rows.size = 100;
+        rows.clearAfterLastRow();
+        rows.size = MANY;
+
+        this.checkEquals(
+            100,
+            rows.elementCount,
+            "elementCount"
+        );
+        this.checkEquals(
+            null,
+            rows.element(100),
+            "row 100"
+        );
+    }
+
+    private final static int MANY = TableNotEmptyListRows.TREE_MIN_CAPACITY * 4;
+
+    /**
+     * Returns a list with enough rows to be held by a {@link TableNotEmptyListRowsTree}.
+     */
+    private TableNotEmptyListRows manyRows() {
+        final TableNotEmptyListRows rows = TableNotEmptyListRows.empty();
+
+        for (int i = 0; i < MANY; i++) {
+            rows.setAuto(
+                i,
+                this.element(i)
+            );
+        }
+
+        return rows;
+    }
+
+    private void getAndCheckMany(final TableNotEmptyListRows rows) {
+        this.checkEquals(
+            MANY,
+            rows.size(),
+            "size"
+        );
+        for (int i = 0; i < MANY; i++) {
+            this.checkEquals(
+                this.element(i),
+                rows.get(i),
+                "row " + i
+            );
+        }
+    }
+
     @Override
     public TableNotEmptyListRows createList() {
         return TableNotEmptyListRows.empty();
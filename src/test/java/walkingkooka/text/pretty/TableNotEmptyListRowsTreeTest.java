@@ -0,0 +1,421 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class TableNotEmptyListRowsTreeTest extends TextPrettyTestCase<TableNotEmptyListRowsTree>
+    implements ClassTesting2<TableNotEmptyListRowsTree>,
+    ToStringTesting<TableNotEmptyListRowsTree> {
+
+    @Test
+    public void testWithZero() {
+        this.checkEquals(
+            null,
+            TableNotEmptyListRowsTree.with(
+                new Object[0],
+                0,
+                new Object()
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final Object[] elements = elements(100);
+
+        this.getAndCheck(
+            TableNotEmptyListRowsTree.with(
+                elements,
+                elements.length,
+                new Object()
+            ),
+            elements
+        );
+    }
+
+    @Test
+    public void testMissing() {
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.missing(100);
+
+        this.getAndCheck(
+            tree,
+            new Object[100]
+        );
+    }
+
+    @Test
+    public void testGetAfterLast() {
+        this.checkEquals(
+            null,
+            TableNotEmptyListRowsTree.get(
+                TableNotEmptyListRowsTree.with(
+                    elements(10),
+                    10,
+                    new Object()
+                ),
+                10
+            )
+        );
+    }
+
+    @Test
+    public void testSetOwned() {
+        final Object owner = new Object();
+        final Object[] elements = elements(100);
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.with(
+            elements,
+            elements.length,
+            owner
+        );
+
+        assertSame(
+            tree,
+            TableNotEmptyListRowsTree.set(
+                tree,
+                50,
+                "new",
+                owner
+            )
+        );
+
+        elements[50] = "new";
+        this.getAndCheck(
+            tree,
+            elements
+        );
+    }
+
+    @Test
+    public void testSetNotOwnedCopies() {
+        final Object[] elements = elements(100);
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.with(
+            elements,
+            elements.length,
+            new Object()
+        );
+
+        final TableNotEmptyListRowsTree set = TableNotEmptyListRowsTree.set(
+            tree,
+            50,
+            "new",
+            new Object()
+        );
+        assertNotSame(
+            tree,
+            set
+        );
+
+        this.getAndCheck(
+            tree,
+            elements.clone()
+        );
+
+        elements[50] = "new";
+        this.getAndCheck(
+            set,
+            elements
+        );
+    }
+
+    @Test
+    public void testSetMissingCopiesSharedChunk() {
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.missing(100);
+
+        final TableNotEmptyListRowsTree set = TableNotEmptyListRowsTree.set(
+            tree,
+            0,
+            "new",
+            new Object()
+        );
+
+        final Object[] elements = new Object[100];
+        this.getAndCheck(
+            tree,
+            elements.clone()
+        );
+
+        elements[0] = "new";
+        this.getAndCheck(
+            set,
+            elements
+        );
+    }
+
+    @Test
+    public void testTakeAndDrop() {
+        final Object[] elements = elements(100);
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.with(
+            elements,
+            elements.length,
+            new Object()
+        );
+
+        for (int i = 0; i <= 100; i++) {
+            final Object[] take = new Object[i];
+            System.arraycopy(elements, 0, take, 0, i);
+
+            this.getAndCheck(
+                TableNotEmptyListRowsTree.take(
+                    tree,
+                    i
+                ),
+                take
+            );
+
+            final Object[] drop = new Object[100 - i];
+            System.arraycopy(elements, i, drop, 0, 100 - i);
+
+            this.getAndCheck(
+                TableNotEmptyListRowsTree.drop(
+                    tree,
+                    i
+                ),
+                drop
+            );
+        }
+    }
+
+    @Test
+    public void testTakeAll() {
+        final TableNotEmptyListRowsTree tree = TableNotEmptyListRowsTree.missing(100);
+
+        assertSame(
+            tree,
+            TableNotEmptyListRowsTree.take(
+                tree,
+                100
+            )
+        );
+    }
+
+    @Test
+    public void testMerge() {
+        final Object[] elements = elements(100);
+
+        final TableNotEmptyListRowsTree first = TableNotEmptyListRowsTree.take(
+            TableNotEmptyListRowsTree.with(
+                elements,
+                elements.length,
+                new Object()
+            ),
+            40
+        );
+
+        final Object[] second = new Object[60];
+        System.arraycopy(elements, 40, second, 0, 60);
+
+        this.getAndCheck(
+            TableNotEmptyListRowsTree.merge(
+                first,
+                TableNotEmptyListRowsTree.with(
+                    second,
+                    second.length,
+                    new Object()
+                ),
+                new Object()
+            ),
+            elements
+        );
+    }
+
+    @Test
+    public void testMergeNotOwnedDoesntUpdate() {
+        final Object[] elements = elements(100);
+        final TableNotEmptyListRowsTree first = TableNotEmptyListRowsTree.with(
+            elements,
+            elements.length,
+            new Object()
+        );
+
+        TableNotEmptyListRowsTree.merge(
+            first,
+            TableNotEmptyListRowsTree.missing(100),
+            new Object()
+        );
+
+        this.getAndCheck(
+            first,
+            elements
+        );
+    }
+
+    @Test
+    public void testInsertAndDeleteManyTimes() {
+        final Random random = new Random(1);
+        final Object owner = new Object();
+
+        final List<Object> expected = Lists.array();
+        TableNotEmptyListRowsTree tree = null;
+
+        for (int i = 0; i < 2000; i++) {
+            final int count = TableNotEmptyListRowsTree.count(tree);
+            final int index = random.nextInt(count + 1);
+
+            if (count > 0 && random.nextInt(3) == 0) {
+                final int to = index + random.nextInt(Math.min(count - index, 50) + 1);
+
+                final TableNotEmptyListRowsTree before = TableNotEmptyListRowsTree.take(
+                    tree,
+                    index
+                );
+                final TableNotEmptyListRowsTree after = TableNotEmptyListRowsTree.drop(
+                    tree,
+                    to
+                );
+                tree = TableNotEmptyListRowsTree.merge(
+                    before,
+                    after,
+                    owner
+                );
+                expected.subList(index, to)
+                    .clear();
+            } else {
+                final int insert = 1 + random.nextInt(40);
+
+                final TableNotEmptyListRowsTree before = TableNotEmptyListRowsTree.take(
+                    tree,
+                    index
+                );
+                final TableNotEmptyListRowsTree after = TableNotEmptyListRowsTree.drop(
+                    tree,
+                    index
+                );
+                tree = TableNotEmptyListRowsTree.merge(
+                    TableNotEmptyListRowsTree.merge(
+                        before,
+                        TableNotEmptyListRowsTree.missing(insert),
+                        owner
+                    ),
+                    after,
+                    owner
+                );
+                for (int j = 0; j < insert; j++) {
+                    expected.add(index, null);
+                }
+
+                tree = TableNotEmptyListRowsTree.set(
+                    tree,
+                    index,
+                    "row" + i,
+                    owner
+                );
+                expected.set(index, "row" + i);
+            }
+        }
+
+        this.getAndCheck(
+            tree,
+            expected.toArray()
+        );
+    }
+
+    @Test
+    public void testDepthLogarithmic() {
+        final Object owner = new Object();
+        TableNotEmptyListRowsTree tree = null;
+
+        // insert a chunk at a time in the middle, which would form a list if the tree was not balanced
+        for (int i = 0; i < 10000; i++) {
+            final int middle = TableNotEmptyListRowsTree.count(tree) / 2;
+
+            final TableNotEmptyListRowsTree before = TableNotEmptyListRowsTree.take(
+                tree,
+                middle
+            );
+            final TableNotEmptyListRowsTree after = TableNotEmptyListRowsTree.drop(
+                tree,
+                middle
+            );
+            tree = TableNotEmptyListRowsTree.merge(
+                TableNotEmptyListRowsTree.merge(
+                    before,
+                    TableNotEmptyListRowsTree.missing(TableNotEmptyListRowsTree.CHUNK_SIZE),
+                    owner
+                ),
+                after,
+                owner
+            );
+        }
+
+        final int depth = TableNotEmptyListRowsTree.depth(tree);
+        this.checkEquals(
+            true,
+            depth < 100,
+            () -> "depth " + depth
+        );
+    }
+
+    private void getAndCheck(final TableNotEmptyListRowsTree tree,
+                             final Object[] expected) {
+        final int count = expected.length;
+
+        this.checkEquals(
+            count,
+            TableNotEmptyListRowsTree.count(tree),
+            "count"
+        );
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                expected[i],
+                TableNotEmptyListRowsTree.get(
+                    tree,
+                    i
+                ),
+                "row " + i
+            );
+        }
+    }
+
+    private static Object[] elements(final int count) {
+        final Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = "row" + i;
+        }
+        return elements;
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            TableNotEmptyListRowsTree.with(
+                new Object[]{"a", null, "c"},
+                3,
+                new Object()
+            ),
+            "[a, null, c]"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TableNotEmptyListRowsTree> type() {
+        return TableNotEmptyListRowsTree.class;
+    }
+}
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.HashCodeEqualsDefinedTesting2;
 import walkingkooka.collect.list.Lists;
 
+import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -664,6 +666,81 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
+    @Test
+    public void testSetCellSharesUnchangedRows() {
+        final TableNotEmpty table = this.createTable();
+        final Table different = table.setCell(1, 1, "x");
+
+        assertSame(
+            table.row(0),
+            different.row(0),
+            "row 0"
+        );
+        assertSame(
+            table.row(2),
+            different.row(2),
+            "row 2"
+        );
+
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testSetCellWidthIncreasedOriginalUnchanged() {
+        final TableNotEmpty table = this.createTable();
+        final Table different = table.setCell(4, 1, "x");
+
+        this.checkEquals(
+            5,
+            different.row(0).size(),
+            "row 0 size"
+        );
+
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testSetCellFarFromOtherCells() {
+        final Table table = Table.empty()
+            .setCell(0, 0, "r0c0")
+            .setCell(9999, 9999, "far")
+            .setCell(5000, 0, "r0c5000");
+
+        this.checkEquals(
+            10000,
+            table.width(),
+            "width"
+        );
+        this.checkEquals(
+            10000,
+            table.height(),
+            "height"
+        );
+        this.checkEquals(
+            "far",
+            table.cell(9999, 9999)
+        );
+        this.checkEquals(
+            "r0c5000",
+            table.cell(5000, 0)
+        );
+        this.checkEquals(
+            "",
+            table.cell(5000, 9999)
+        );
+        this.checkEquals(
+            true,
+            table.rows().get(9999).elements.length < 100,
+            "row 9999 should be sparse"
+        );
+    }
+
     // column...........................................................................................................
 
     @Test
@@ -2060,6 +2137,150 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
+    @Test
+    public void testSetRowNarrowerUntilLastWidestRow() {
+        final Table table = this.createTable()
+            .setRow(0, list(X))
+            .setRow(1, list(Y));
+
+        this.check(
+            table,
+            list(
+                X, MISSING, MISSING
+            ),
+            list(
+                Y, MISSING, MISSING
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+
+        this.check(
+            table.setRow(2, list(Z)),
+            list(
+                X
+            ),
+            list(
+                Y
+            ),
+            list(
+                Z
+            )
+        );
+    }
+
+    @Test
+    public void testSetCellWidthIncreasedRowsShared() {
+        final Table table = this.createTable()
+            .setCell(4, 1, X);
+        final Table different = table.setCell(0, 2, Y);
+
+        assertSame(
+            table.row(0),
+            different.row(0),
+            "row 0"
+        );
+        this.checkEquals(
+            5,
+            different.row(0).size(),
+            "row 0 size"
+        );
+    }
+
+    @Test
+    public void testSetCellManyRowsSharesRows() {
+        TableBuilder builder = TableBuilder.empty();
+        for (int r = 0; r < 1000; r++) {
+            builder = builder.setCell(0, r, "r" + r);
+        }
+        final TableNotEmpty table = (TableNotEmpty) builder.build();
+        final TableNotEmpty different = (TableNotEmpty) table.setCell(0, 500, X);
+
+        this.checkEquals(
+            true,
+            null != different.rows.tree,
+            "tree"
+        );
+        assertSame(
+            table.row(0),
+            different.row(0),
+            "row 0"
+        );
+        this.checkEquals(
+            "r500",
+            table.cell(0, 500),
+            "original"
+        );
+        this.checkEquals(
+            X,
+            different.cell(0, 500),
+            "different"
+        );
+    }
+
+    @Test
+    public void testSetRowWiderSharedRowsReadByBothVersions() {
+        final TableNotEmpty table = (TableNotEmpty) Table.empty()
+            .setRow(0, list(X))
+            .setRow(1, list(Y));
+        final TableNotEmpty wider = (TableNotEmpty) table.setRow(2, list(X, Y, Z));
+
+        assertSame(
+            table.rows.elements,
+            wider.rows.elements,
+            "rows shared"
+        );
+
+        this.checkEquals(
+            3,
+            wider.row(0).size(),
+            "wider row 0 size"
+        );
+        this.checkEquals(
+            1,
+            table.row(0).size(),
+            "row 0 size"
+        );
+        this.check(
+            wider,
+            list(
+                X, MISSING, MISSING
+            ),
+            list(
+                Y, MISSING, MISSING
+            ),
+            list(
+                X, Y, Z
+            )
+        );
+        this.check(
+            table,
+            list(
+                X
+            ),
+            list(
+                Y
+            )
+        );
+    }
+
+    @Test
+    public void testSetHeightSmallerThenLargerRowWidth() {
+        this.check(
+            Table.empty()
+                .setCell(2, 1, X)
+                .setHeight(1)
+                .setHeight(2),
+            list(
+                MISSING, MISSING, MISSING
+            ),
+            list(
+                MISSING, MISSING, MISSING
+            )
+        );
+    }
+
     @Test
     public void testSetEmptyRows() {
         this.check(
@@ -2508,74 +2729,566 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
-    // setHeight........................................................................................................
-
-    // width should also decrease to the max width of row 0 and row 1 which is 2
     @Test
-    public void testSetHeightDecrease() {
-        this.setHeightAndCheck(
-            Table.empty()
-                .setCell(
-                    0,
-                    0,
-                    X
-                ).setCell(
-                    1,
-                    1,
-                    Y
-                ).setCell(
-                    0,
-                    2,
-                    Z
-                ),
-            2,
-            Table.empty()
-                .setCell(
-                    0,
-                    0,
-                    X
-                ).setCell(
-                    1,
-                    1,
-                    Y
-                )
+    public void testSetRowsAppendSharesRows() {
+        final TableNotEmpty table = this.createTable();
+        final Table appended = table.setRows(
+            0,
+            3,
+            Lists.of(
+                list(X)
+            )
+        );
+        final Table appended2 = appended.setRows(
+            0,
+            4,
+            Lists.of(
+                list(Y, Z)
+            )
+        );
+
+        assertSame(
+            appended.rows().elements,
+            appended2.rows().elements,
+            "elements"
+        );
+        this.check(
+            appended2,
+            list(
+                R0C0, R0C1, R0C2
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            ),
+            list(
+                X, MISSING, MISSING
+            ),
+            list(
+                Y, Z, MISSING
+            )
+        );
+        this.heightAndCheck(
+            appended,
+            4
+        );
+        this.check(
+            table,
+            this.listOrRows()
         );
     }
 
     @Test
-    public void testSetHeightDecrease2() {
-        this.setHeightAndCheck(
-            Table.empty()
-                .setCell(
-                    0,
-                    0,
-                    X
-                ).setCell(
-                    0,
-                    1,
-                    Y
-                ).setCell(
-                    0,
-                    2,
-                    Z
-                ),
-            1,
-            Table.empty()
-                .setCell(
-                    0,
-                    0,
-                    X
-                )
+    public void testSetRowsAppendTwice() {
+        final TableNotEmpty table = this.createTable();
+        final Table appended = table.setRows(
+            0,
+            3,
+            Lists.of(
+                list(X)
+            )
+        );
+        final Table appended2 = table.setRows(
+            0,
+            3,
+            Lists.of(
+                list(Y)
+            )
+        );
+
+        this.cellAndCheck(
+            appended,
+            0,
+            3,
+            X
+        );
+        this.cellAndCheck(
+            appended2,
+            0,
+            3,
+            Y
         );
     }
 
+    // insertRows.......................................................................................................
+
     @Test
-    public void testSetHeightDecreaseBecomes1EmptyRow() {
-        // - - -
-        // - - -
-        // - - Z
+    public void testInsertRows() {
+        final TableNotEmpty table = this.createTable();
+        final Table inserted = table.insertRows(
+            1,
+            Lists.of(
+                list(X),
+                list(Y, Z)
+            )
+        );
 
-        this.setHeightAndCheck(
+        this.check(
+            inserted,
+            list(
+                R0C0, R0C1, R0C2
+            ),
+            list(
+                X, MISSING, MISSING
+            ),
+            list(
+                Y, Z, MISSING
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+        assertSame(
+            table.row(2),
+            inserted.row(4),
+            "row 2"
+        );
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testInsertRowsWider() {
+        this.check(
+            this.createTable()
+                .insertRows(
+                    0,
+                    Lists.of(
+                        list(null, null, null, X)
+                    )
+                ),
+            list(
+                MISSING, MISSING, MISSING, X
+            ),
+            list(
+                R0C0, R0C1, R0C2, MISSING
+            ),
+            list(
+                R1C0, R1C1, R1C2, MISSING
+            ),
+            list(
+                R2C0, R2C1, R2C2, MISSING
+            )
+        );
+    }
+
+    @Test
+    public void testInsertRowsNullRow() {
+        this.check(
+            this.createTable()
+                .insertRows(
+                    2,
+                    list(
+                        (List<CharSequence>) null
+                    )
+                ),
+            list(
+                R0C0, R0C1, R0C2
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                MISSING, MISSING, MISSING
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+    }
+
+    // deleteRows.......................................................................................................
+
+    @Test
+    public void testDeleteRows() {
+        final TableNotEmpty table = this.createTable();
+        final Table deleted = table.deleteRows(
+            1,
+            2
+        );
+
+        this.check(
+            deleted,
+            list(
+                R0C0, R0C1, R0C2
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+        assertSame(
+            table.row(2),
+            deleted.row(1),
+            "row 2"
+        );
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testDeleteRowsToAfterLastRow() {
+        this.check(
+            this.createTable()
+                .deleteRows(
+                    1,
+                    10
+                ),
+            list(
+                R0C0, R0C1, R0C2
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteRowsWidestRowNarrower() {
+        this.check(
+            this.createTable(
+                3,
+                list(X),
+                list(R1C0, R1C1, R1C2),
+                list(Y, Z)
+            ).deleteRows(
+                1,
+                2
+            ),
+            list(
+                X, MISSING
+            ),
+            list(
+                Y, Z
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteRowsOneOfWidestRows() {
+        this.check(
+            this.createTable()
+                .deleteRows(
+                    0,
+                    1
+                ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteRowsAll() {
+        assertSame(
+            Table.empty(),
+            this.createTable()
+                .deleteRows(
+                    0,
+                    3
+                )
+        );
+    }
+
+    // sortRows.........................................................................................................
+
+    @Test
+    public void testSortRows() {
+        final TableNotEmpty table = this.createTable();
+
+        this.check(
+            table.sortRows(
+                (l, r) -> r.get(0)
+                    .toString()
+                    .compareTo(
+                        l.get(0)
+                            .toString()
+                    )
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R0C0, R0C1, R0C2
+            )
+        );
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testSortRowsByColumn() {
+        this.check(
+            this.createTable(
+                2,
+                list(Y, "1"),
+                list(X, "2"),
+                list(Z, "3"),
+                list(X, "4")
+            ).sortRowsByColumn(
+                0,
+                Comparator.comparing(CharSequence::toString)
+            ),
+            list(
+                X, "2"
+            ),
+            list(
+                X, "4"
+            ),
+            list(
+                Y, "1"
+            ),
+            list(
+                Z, "3"
+            )
+        );
+    }
+
+    @Test
+    public void testSortRowsByColumnThenSetCell() {
+        final Table sorted = this.createTable()
+            .sortRowsByColumn(
+                1,
+                Comparator.<CharSequence, String>comparing(CharSequence::toString)
+                    .reversed()
+            );
+
+        this.check(
+            sorted.setCell(
+                0,
+                0,
+                X
+            ),
+            list(
+                X, R2C1, R2C2
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R0C0, R0C1, R0C2
+            )
+        );
+        this.check(
+            sorted,
+            list(
+                R2C0, R2C1, R2C2
+            ),
+            list(
+                R1C0, R1C1, R1C2
+            ),
+            list(
+                R0C0, R0C1, R0C2
+            )
+        );
+    }
+
+    // filterRows.......................................................................................................
+
+    @Test
+    public void testFilterRows() {
+        final TableNotEmpty table = this.createTable();
+
+        this.check(
+            table.filterRows(
+                (r) -> !R1C0.equals(r.get(0))
+            ),
+            list(
+                R0C0, R0C1, R0C2
+            ),
+            list(
+                R2C0, R2C1, R2C2
+            )
+        );
+        this.check(
+            table,
+            this.listOrRows()
+        );
+    }
+
+    @Test
+    public void testFilterRowsNone() {
+        final Table table = this.createTable()
+            .filterRows(
+                (r) -> false
+            );
+
+        this.widthAndCheck(
+            table,
+            3
+        );
+        this.heightAndCheck(
+            table,
+            0
+        );
+    }
+
+    // projectColumns...................................................................................................
+
+    @Test
+    public void testProjectColumns() {
+        this.check(
+            this.createTable()
+                .projectColumns(2, 0, 0),
+            list(
+                R0C2, R0C0, R0C0
+            ),
+            list(
+                R1C2, R1C0, R1C0
+            ),
+            list(
+                R2C2, R2C0, R2C0
+            )
+        );
+    }
+
+    @Test
+    public void testProjectColumnsAfterLastColumn() {
+        this.check(
+            this.createTable()
+                .projectColumns(1, 3),
+            list(
+                R0C1, MISSING
+            ),
+            list(
+                R1C1, MISSING
+            ),
+            list(
+                R2C1, MISSING
+            )
+        );
+    }
+
+    // transpose........................................................................................................
+
+    @Test
+    public void testTranspose() {
+        this.check(
+            this.createTable(
+                3,
+                list(R0C0, R0C1, R0C2),
+                list(R1C0)
+            ).transpose(),
+            list(
+                R0C0, R1C0
+            ),
+            list(
+                R0C1, MISSING
+            ),
+            list(
+                R0C2, MISSING
+            )
+        );
+    }
+
+    @Test
+    public void testSetRowsAfterMissingRows() {
+        this.check(
+            Table.empty()
+                .setSize(2, 4)
+                .setRows(
+                    0,
+                    1,
+                    Lists.of(
+                        list(X)
+                    )
+                ),
+            list(
+                MISSING, MISSING
+            ),
+            list(
+                X, MISSING
+            ),
+            list(
+                MISSING, MISSING
+            ),
+            list(
+                MISSING, MISSING
+            )
+        );
+    }
+
+    // setHeight........................................................................................................
+
+    // width should also decrease to the max width of row 0 and row 1 which is 2
+    @Test
+    public void testSetHeightDecrease() {
+        this.setHeightAndCheck(
+            Table.empty()
+                .setCell(
+                    0,
+                    0,
+                    X
+                ).setCell(
+                    1,
+                    1,
+                    Y
+                ).setCell(
+                    0,
+                    2,
+                    Z
+                ),
+            2,
+            Table.empty()
+                .setCell(
+                    0,
+                    0,
+                    X
+                ).setCell(
+                    1,
+                    1,
+                    Y
+                )
+        );
+    }
+
+    @Test
+    public void testSetHeightDecrease2() {
+        this.setHeightAndCheck(
+            Table.empty()
+                .setCell(
+                    0,
+                    0,
+                    X
+                ).setCell(
+                    0,
+                    1,
+                    Y
+                ).setCell(
+                    0,
+                    2,
+                    Z
+                ),
+            1,
+            Table.empty()
+                .setCell(
+                    0,
+                    0,
+                    X
+                )
+        );
+    }
+
+    @Test
+    public void testSetHeightDecreaseBecomes1EmptyRow() {
+        // - - -
+        // - - -
+        // - - Z
+
+        this.setHeightAndCheck(
             Table.empty()
                 .setCell(
                     2,
@@ -2997,6 +3710,43 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
+    @Test
+    public void testSetColumnsLinkedList() {
+        final Table expected = this.createTable()
+            .setCell(
+                2,
+                0,
+                X
+            ).setCell(
+                2,
+                1,
+                Y
+            ).setCell(
+                3,
+                0,
+                Z
+            );
+
+        this.checkEquals(
+            expected,
+            this.createTable()
+                .setColumns(
+                    2,
+                    0,
+                    new LinkedList<>(
+                        Lists.of(
+                            new LinkedList<>(
+                                Lists.of(X, Y)
+                            ),
+                            new LinkedList<>(
+                                Lists.of(Z)
+                            )
+                        )
+                    )
+                )
+        );
+    }
+
     @Test
     public void testSetColumnsXOffset2() {
         final Table expected = this.createTable()
@@ -3222,6 +3972,81 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
+    // window...........................................................................................................
+
+    @Test
+    public void testWindow() {
+        this.check(
+            this.createTable()
+                .window(1, 1, 2, 2),
+            list(R1C1, R1C2),
+            list(R2C1, R2C2)
+        );
+    }
+
+    @Test
+    public void testWindowPartlyOutside() {
+        this.check(
+            this.createTable()
+                .window(2, 1, 2, 3),
+            list(R1C2, MISSING),
+            list(R2C2, MISSING),
+            list(MISSING, MISSING)
+        );
+    }
+
+    @Test
+    public void testWindowSetCell() {
+        final TableNotEmpty table = this.createTable();
+        final Table window = table.window(1, 1, 2, 2)
+            .setCell(0, 0, "x");
+
+        this.check(
+            window,
+            list("x", R1C2),
+            list(R2C1, R2C2)
+        );
+        this.cellAndCheck(
+            table,
+            1,
+            1,
+            R1C1
+        );
+    }
+
+    @Test
+    public void testWindowEqualsCopy() {
+        this.checkEquals(
+            this.createTable(
+                2,
+                list(R0C1, R0C2),
+                list(R1C1, R1C2)
+            ),
+            this.createTable()
+                .window(1, 0, 2, 2)
+        );
+    }
+
+    @Test
+    public void testRows() {
+        this.check(
+            this.createTable()
+                .rows(1, 2),
+            list(R1C0, R1C1, R1C2)
+        );
+    }
+
+    @Test
+    public void testColumns() {
+        this.check(
+            this.createTable()
+                .columns(0, 2),
+            list(R0C0, R0C1),
+            list(R1C0, R1C1),
+            list(R2C0, R2C1)
+        );
+    }
+
     // equals...........................................................................................................
 
     @Test
@@ -3252,6 +4077,43 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
         );
     }
 
+    @Test
+    public void testHashCodeAfterSetCell() {
+        final Table table = this.createTable();
+        table.hashCode();
+
+        final Table different = table.setCell(1, 1, "different");
+
+        this.checkEquals(
+            this.createTable(
+                3,
+                list(R0C0, R0C1, R0C2),
+                list(R1C0, "different", R1C2),
+                list(R2C0, R2C1, R2C2)
+            ).hashCode(),
+            different.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentRowAfterHashCode() {
+        final Table table = this.createTable();
+        final Table different = table.setCell(1, 1, "different");
+
+        table.hashCode();
+        different.hashCode();
+
+        this.checkNotEquals(
+            table,
+            different
+        );
+        this.checkEquals(
+            different,
+            table.setCell(1, 1, "different")
+        );
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -3326,6 +4188,10 @@ public final class TableNotEmptyTest extends TableTestCase3<TableNotEmpty>
 
                     column++;
                 }
+
+                if (copiedRowText.size <= width) {
+                    copiedRowText.setWidth(width);
+                }
             } else {
                 copiedRowText = null;
             }
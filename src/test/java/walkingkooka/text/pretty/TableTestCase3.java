@@ -22,6 +22,7 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.text.printer.TreePrintableTesting;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -423,6 +424,323 @@ public abstract class TableTestCase3<T extends Table> extends TableTestCase2<T>
         );
     }
 
+    // insertRows.......................................................................................................
+
+    @Test
+    public final void testInsertRowsInvalidRowFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .insertRows(
+                    -1,
+                    Lists.of(
+                        Lists.of("a")
+                    )
+                )
+        );
+    }
+
+    @Test
+    public final void testInsertRowsNullRowsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createTable()
+                .insertRows(
+                    0,
+                    null
+                )
+        );
+    }
+
+    @Test
+    public final void testInsertRowsEmpty() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.insertRows(
+                0,
+                Lists.empty()
+            )
+        );
+    }
+
+    @Test
+    public final void testInsertRowsAfterLastRow() {
+        final Table table = this.createTable();
+        final List<List<CharSequence>> rows = Lists.of(
+            Lists.of("a", "b")
+        );
+
+        this.checkEquals(
+            table.setRows(
+                0,
+                table.height(),
+                rows
+            ),
+            table.insertRows(
+                table.height(),
+                rows
+            )
+        );
+    }
+
+    @Test
+    public final void testInsertRowsThenDeleteRows() {
+        final Table table = this.createTable();
+
+        this.checkEquals(
+            table,
+            table.insertRows(
+                0,
+                Lists.of(
+                    Lists.of("a"),
+                    Lists.of("b")
+                )
+            ).deleteRows(
+                0,
+                2
+            )
+        );
+    }
+
+    // deleteRows.......................................................................................................
+
+    @Test
+    public final void testDeleteRowsInvalidFromFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .deleteRows(-1, 0)
+        );
+    }
+
+    @Test
+    public final void testDeleteRowsToBeforeFromFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createTable()
+                .deleteRows(1, 0)
+        );
+    }
+
+    @Test
+    public final void testDeleteRowsNone() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.deleteRows(
+                0,
+                0
+            )
+        );
+    }
+
+    @Test
+    public final void testDeleteRowsAfterLastRow() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.deleteRows(
+                table.height(),
+                table.height() + 1
+            )
+        );
+    }
+
+    // sortRows.........................................................................................................
+
+    @Test
+    public final void testSortRowsNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createTable()
+                .sortRows(null)
+        );
+    }
+
+    @Test
+    public final void testSortRowsAllEqual() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.sortRows(
+                (l, r) -> 0
+            )
+        );
+    }
+
+    @Test
+    public final void testSortRowsByColumnInvalidColumnFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .sortRowsByColumn(
+                    -1,
+                    Comparator.comparing(CharSequence::toString)
+                )
+        );
+    }
+
+    @Test
+    public final void testSortRowsByColumnNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createTable()
+                .sortRowsByColumn(
+                    0,
+                    null
+                )
+        );
+    }
+
+    @Test
+    public final void testSortRowsByColumnAfterLastColumn() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.sortRowsByColumn(
+                table.width(),
+                Comparator.comparing(CharSequence::toString)
+            )
+        );
+    }
+
+    // filterRows.......................................................................................................
+
+    @Test
+    public final void testFilterRowsNullFilterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createTable()
+                .filterRows(null)
+        );
+    }
+
+    @Test
+    public final void testFilterRowsAll() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.filterRows(
+                (r) -> true
+            )
+        );
+    }
+
+    // projectColumns...................................................................................................
+
+    @Test
+    public final void testProjectColumnsNullColumnsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createTable()
+                .projectColumns(null)
+        );
+    }
+
+    @Test
+    public final void testProjectColumnsInvalidColumnFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .projectColumns(0, -1)
+        );
+    }
+
+    // transpose........................................................................................................
+
+    @Test
+    public final void testTransposeTwice() {
+        final Table table = this.createTable();
+
+        this.checkEquals(
+            table,
+            table.transpose()
+                .transpose()
+        );
+    }
+
+    // window...........................................................................................................
+
+    @Test
+    public final void testWindowInvalidStartColumnFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .window(-1, 0, 1, 1)
+        );
+    }
+
+    @Test
+    public final void testWindowInvalidStartRowFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable()
+                .window(0, -1, 1, 1)
+        );
+    }
+
+    @Test
+    public final void testWindowInvalidWidthFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createTable()
+                .window(0, 0, -1, 1)
+        );
+    }
+
+    @Test
+    public final void testWindowInvalidHeightFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createTable()
+                .window(0, 0, 1, -1)
+        );
+    }
+
+    @Test
+    public final void testWindowSame() {
+        final Table table = this.createTable();
+        assertSame(
+            table,
+            table.window(
+                0,
+                0,
+                table.width(),
+                table.height()
+            )
+        );
+    }
+
+    @Test
+    public final void testRowsToBeforeFromFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createTable()
+                .rows(1, 0)
+        );
+    }
+
+    @Test
+    public final void testColumnsToBeforeFromFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createTable()
+                .columns(1, 0)
+        );
+    }
+
+    // compact..........................................................................................................
+
+    @Test
+    public final void testCompactEquals() {
+        final Table table = this.createTable();
+        this.checkEquals(
+            table,
+            table.compact()
+        );
+    }
+
     // helpers.........................................................................................................
 
     abstract T createTable();
@@ -113,6 +113,81 @@ public final class TableTransformerUnaryOperatorTest extends TextPrettyTestCase<
                 .setRow(2, Lists.of("E     ", "      FF", "    3.50")));
     }
 
+    @Test
+    public void testVirtualTableNotCopied() {
+        final ColumnConfig column = TextPretty.columnConfig()
+            .minWidth(3)
+            .leftAlign();
+
+        final Table virtual = TableVirtual.with(
+            3,
+            2,
+            (c, r) -> {
+                if (c > 1) {
+                    throw new AssertionError("Column " + c + " computed");
+                }
+                return "r" + r + "c" + c;
+            }
+        ).setCell(1, 1, "");
+
+        final Table transformed = TableTransformerUnaryOperator.with(Lists.of(column))
+            .apply(virtual);
+
+        this.checkEquals(
+            TableVirtual.class,
+            transformed.getClass(),
+            "class"
+        );
+        this.checkEquals(
+            "r0c0",
+            transformed.cell(0, 0)
+                .toString(),
+            "cell 0,0"
+        );
+        this.checkEquals(
+            "r1c0",
+            transformed.cell(0, 1)
+                .toString(),
+            "cell 0,1"
+        );
+        this.checkEquals(
+            "r0c1",
+            transformed.cell(1, 0)
+                .toString(),
+            "cell 1,0"
+        );
+        this.checkEquals(
+            "",
+            transformed.cell(1, 1)
+                .toString(),
+            "cell 1,1"
+        );
+    }
+
+    @Test
+    public void testVirtualTableSameAsTableNotEmpty() {
+        final ColumnConfig column = TextPretty.columnConfig()
+            .minWidth(5)
+            .leftAlign();
+        final TableTransformerUnaryOperator transformer = TableTransformerUnaryOperator.with(Lists.of(column, column));
+
+        final Table virtual = TableVirtual.with(
+            3,
+            2,
+            (c, r) -> 1 == c && 1 == r ?
+                null :
+                "r" + r + "c" + c
+        );
+
+        this.checkEquals(
+            transformer.apply(
+                TableBuilder.with(virtual)
+                    .build()
+            ),
+            transformer.apply(virtual)
+        );
+    }
+
     private void applyAndCheck2(final Table input,
                                 final Table result) {
         this.applyAndCheck2(this.createFunction(), input, result);
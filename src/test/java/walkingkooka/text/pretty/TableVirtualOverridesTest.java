@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting2;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class TableVirtualOverridesTest extends TextPrettyTestCase<TableVirtualOverrides>
+    implements ClassTesting2<TableVirtualOverrides>,
+    ToStringTesting<TableVirtualOverrides> {
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            TableVirtualOverrides.EMPTY,
+            TableVirtualOverrides.with(Maps.hash())
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        this.checkEquals(
+            true,
+            TableVirtualOverrides.EMPTY.isEmpty()
+        );
+    }
+
+    @Test
+    public void testPutEmpty() {
+        final TableVirtualOverrides overrides = TableVirtualOverrides.EMPTY.put(map(1, "a"));
+
+        assertSame(
+            overrides,
+            overrides.put(Maps.hash())
+        );
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final TableVirtualOverrides overrides = TableVirtualOverrides.EMPTY.put(map(1, "a"));
+
+        this.checkEquals(
+            false,
+            overrides.isEmpty()
+        );
+        this.checkEquals(
+            "a",
+            overrides.get(1)
+        );
+        this.checkEquals(
+            null,
+            overrides.get(2)
+        );
+    }
+
+    @Test
+    public void testPutHidesParent() {
+        final TableVirtualOverrides overrides = TableVirtualOverrides.EMPTY.put(map(1, "a"));
+        final TableVirtualOverrides replaced = overrides.put(map(1, "b"));
+
+        this.checkEquals(
+            "b",
+            replaced.get(1),
+            "replaced"
+        );
+        this.checkEquals(
+            "a",
+            overrides.get(1),
+            "original"
+        );
+    }
+
+    @Test
+    public void testPutDoesntCopyLargerParent() {
+        final Map<Long, CharSequence> base = Maps.hash();
+        for (long i = 0; i < 10; i++) {
+            base.put(i, "base" + i);
+        }
+
+        final TableVirtualOverrides overrides = TableVirtualOverrides.with(base)
+            .put(map(100, "a"));
+
+        this.checkEquals(
+            2,
+            overrides.depth(),
+            "depth"
+        );
+        this.checkEquals(
+            "base5",
+            overrides.get(5)
+        );
+        this.checkEquals(
+            "a",
+            overrides.get(100)
+        );
+    }
+
+    @Test
+    public void testPutManyDepthLogarithmic() {
+        TableVirtualOverrides overrides = TableVirtualOverrides.EMPTY;
+
+        final int count = 1024;
+        for (int i = 0; i < count; i++) {
+            overrides = overrides.put(map(i, "v" + i));
+        }
+
+        final int depth = overrides.depth();
+        this.checkEquals(
+            true,
+            depth <= 11,
+            () -> "depth " + depth
+        );
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                "v" + i,
+                overrides.get(i)
+            );
+        }
+        this.checkEquals(
+            count,
+            overrides.toMap()
+                .size()
+        );
+    }
+
+    @Test
+    public void testToMap() {
+        final Map<Long, CharSequence> expected = map(1, "a2");
+        expected.put(2L, "b");
+
+        this.checkEquals(
+            expected,
+            TableVirtualOverrides.with(map(1, "a"))
+                .put(map(2, "b"))
+                .put(map(1, "a2"))
+                .toMap()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            TableVirtualOverrides.EMPTY.put(map(1, "a")),
+            "{1=a}"
+        );
+    }
+
+    private static Map<Long, CharSequence> map(final long key,
+                                               final String text) {
+        final Map<Long, CharSequence> map = Maps.hash();
+        map.put(key, text);
+        return map;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TableVirtualOverrides> type() {
+        return TableVirtualOverrides.class;
+    }
+}
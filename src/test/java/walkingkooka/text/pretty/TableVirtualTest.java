@@ -0,0 +1,758 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.pretty;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TableVirtualTest extends TableTestCase3<TableVirtual> {
+
+    @Test
+    public void testWithInvalidWidthFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TableVirtual.with(
+                -1,
+                1,
+                TableVirtualTest::cells
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidHeightFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TableVirtual.with(
+                1,
+                -1,
+                TableVirtualTest::cells
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullCellsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TableVirtual.with(
+                1,
+                1,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroWidthAndHeight() {
+        assertSame(
+            Table.empty(),
+            TableVirtual.with(
+                0,
+                0,
+                TableVirtualTest::cells
+            )
+        );
+    }
+
+    // width & height...................................................................................................
+
+    @Test
+    public void testWidth() {
+        this.widthAndCheck(
+            this.createTable(),
+            3
+        );
+    }
+
+    @Test
+    public void testHeight() {
+        this.heightAndCheck(
+            this.createTable(),
+            3
+        );
+    }
+
+    // cell.............................................................................................................
+
+    @Test
+    public void testCell() {
+        this.cellAndCheck(
+            1,
+            2,
+            R2C1
+        );
+    }
+
+    @Test
+    public void testCellNullText() {
+        this.cellAndCheck(
+            TableVirtual.with(
+                2,
+                2,
+                (c, r) -> null
+            ),
+            1,
+            1,
+            MISSING
+        );
+    }
+
+    @Test
+    public void testCellColumnMissingFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable().cell(3, 0)
+        );
+    }
+
+    @Test
+    public void testCellRowMissingFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createTable().cell(0, 3)
+        );
+    }
+
+    @Test
+    public void testCellComputedOnDemand() {
+        final AtomicInteger count = new AtomicInteger();
+
+        final Table table = TableVirtual.with(
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            (c, r) -> {
+                count.incrementAndGet();
+                return c + "," + r;
+            }
+        );
+
+        this.cellAndCheck(
+            table,
+            1000000,
+            2000000,
+            "1000000,2000000"
+        );
+        this.checkEquals(
+            1,
+            count.get(),
+            "cells computed"
+        );
+    }
+
+    // setCell..........................................................................................................
+
+    @Test
+    public void testSetCellSame() {
+        this.setCellAndCheck(
+            1,
+            1,
+            R1C1
+        );
+    }
+
+    @Test
+    public void testSetCellReplaced() {
+        final Table table = this.createTable();
+        final Table different = this.setCellAndCheck(
+            table,
+            1,
+            1,
+            "different"
+        );
+
+        this.cellAndCheck(
+            different,
+            1,
+            1,
+            "different"
+        );
+        this.cellAndCheck(
+            different,
+            0,
+            1,
+            R1C0
+        );
+        this.cellAndCheck(
+            table,
+            1,
+            1,
+            R1C1
+        );
+    }
+
+    @Test
+    public void testSetCellClearsComputedCell() {
+        final Table different = this.setCellAndCheck(
+            1,
+            1,
+            null
+        );
+
+        this.cellAndCheck(
+            different,
+            1,
+            1,
+            MISSING
+        );
+    }
+
+    @Test
+    public void testSetCellAfterLastColumnAndRow() {
+        final Table different = this.createTable()
+            .setCell(
+                4,
+                5,
+                "x"
+            );
+
+        this.widthAndCheck(
+            different,
+            5
+        );
+        this.heightAndCheck(
+            different,
+            6
+        );
+        this.cellAndCheck(
+            different,
+            4,
+            5,
+            "x"
+        );
+        this.cellAndCheck(
+            different,
+            3,
+            0,
+            MISSING
+        );
+        this.cellAndCheck(
+            different,
+            0,
+            4,
+            MISSING
+        );
+    }
+
+    @Test
+    public void testSetCellManyKeepsEarlierVersions() {
+        final Table table = this.createTable();
+
+        Table different = table;
+        Table half = null;
+
+        final int count = 100;
+        for (int i = 0; i < count; i++) {
+            different = different.setCell(
+                i % 3,
+                i,
+                "x" + i
+            );
+            if (count / 2 == i) {
+                half = different;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            this.cellAndCheck(
+                different,
+                i % 3,
+                i,
+                "x" + i
+            );
+        }
+
+        this.heightAndCheck(
+            half,
+            (count / 2) + 1
+        );
+        this.cellAndCheck(
+            half,
+            1,
+            1,
+            "x1"
+        );
+        this.cellAndCheck(
+            table,
+            1,
+            1,
+            R1C1
+        );
+    }
+
+    // setColumn........................................................................................................
+
+    @Test
+    public void testSetColumn() {
+        final Table different = this.setColumnAndCheck(
+            1,
+            "a", "b"
+        );
+
+        this.check(
+            different,
+            list(R0C0, "a", R0C2),
+            list(R1C0, "b", R1C2),
+            list(R2C0, MISSING, R2C2)
+        );
+    }
+
+    @Test
+    public void testSetColumnAfterLastColumn() {
+        final Table different = this.setColumnAndCheck(
+            3,
+            "a", "b", "c", "d"
+        );
+
+        this.check(
+            different,
+            list(R0C0, R0C1, R0C2, "a"),
+            list(R1C0, R1C1, R1C2, "b"),
+            list(R2C0, R2C1, R2C2, "c"),
+            list(MISSING, MISSING, MISSING, "d")
+        );
+    }
+
+    // views............................................................................................................
+
+    @Test
+    public void testViewsOfViews() {
+        final Table table = this.createTable()
+            .setCell(1, 1, "x")
+            .transpose()
+            .projectColumns(2, 1, 0)
+            .window(0, 1, 3, 2)
+            .sortRowsByColumn(
+                2,
+                (l, r) -> r.toString().compareTo(l.toString())
+            )
+            .transpose();
+
+        this.check(
+            table,
+            list(R2C2, R2C1),
+            list(R1C2, "x"),
+            list(R0C2, R0C1)
+        );
+    }
+
+    @Test
+    public void testFilterRowsManyTimes() {
+        Table table = this.createTable();
+
+        for (int i = 0; i < 50000; i++) {
+            table = table.setCell(0, 3, "x")
+                .filterRows(r -> false == "x".equals(r.get(0).toString()));
+        }
+
+        this.check(
+            table,
+            list(R0C0, R0C1, R0C2),
+            list(R1C0, R1C1, R1C2),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    // replaceColumns...................................................................................................
+
+    @Test
+    public void testReplaceColumns() {
+        final TableVirtual table = this.createTable();
+
+        final Table different = table.replaceColumns(
+            Lists.of(
+                Lists.of("a", "b"),
+                Lists.of("c", "d", "e", "f")
+            )
+        );
+
+        this.check(
+            different,
+            list("a", "c", R0C2),
+            list("b", "d", R1C2),
+            list(MISSING, "e", R2C2),
+            list(MISSING, "f", MISSING)
+        );
+        this.check(
+            table,
+            list(R0C0, R0C1, R0C2),
+            list(R1C0, R1C1, R1C2),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    // row..............................................................................................................
+
+    @Test
+    public void testRow() {
+        this.checkEquals(
+            Lists.of(R1C0, R1C1, R1C2),
+            this.createTable()
+                .row(1)
+        );
+    }
+
+    @Test
+    public void testSetRow() {
+        this.check(
+            this.createAndSetRow(
+                1,
+                "a"
+            ),
+            list(R0C0, R0C1, R0C2),
+            list("a", MISSING, MISSING),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    @Test
+    public void testSetRowAfterLastRow() {
+        this.check(
+            this.createAndSetRow(
+                4,
+                "a", "b", "c", "d"
+            ),
+            list(R0C0, R0C1, R0C2, MISSING),
+            list(R1C0, R1C1, R1C2, MISSING),
+            list(R2C0, R2C1, R2C2, MISSING),
+            list(MISSING, MISSING, MISSING, MISSING),
+            list("a", "b", "c", "d")
+        );
+    }
+
+    // setRows..........................................................................................................
+
+    @Test
+    public void testSetRows() {
+        this.check(
+            this.createTable()
+                .setRows(
+                    1,
+                    1,
+                    Lists.of(
+                        Lists.of("a", "b", "c"),
+                        Lists.of("d")
+                    )
+                ),
+            list(R0C0, R0C1, R0C2, MISSING),
+            list(R1C0, "a", "b", "c"),
+            list(R2C0, "d", R2C2, MISSING)
+        );
+    }
+
+    // insertRows.......................................................................................................
+
+    @Test
+    public void testInsertRows() {
+        this.check(
+            this.createTable()
+                .insertRows(
+                    1,
+                    Lists.of(
+                        Lists.of("a", "b", "c", "d")
+                    )
+                ),
+            list(R0C0, R0C1, R0C2, MISSING),
+            list("a", "b", "c", "d"),
+            list(R1C0, R1C1, R1C2, MISSING),
+            list(R2C0, R2C1, R2C2, MISSING)
+        );
+    }
+
+    @Test
+    public void testInsertRowsAfterSetCell() {
+        this.check(
+            this.createTable()
+                .setCell(1, 1, "x")
+                .insertRows(
+                    1,
+                    Lists.of(
+                        Lists.of("a")
+                    )
+                ),
+            list(R0C0, R0C1, R0C2),
+            list("a", MISSING, MISSING),
+            list(R1C0, "x", R1C2),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    @Test
+    public void testInsertRowsAndDeleteRowsManyTimes() {
+        Table table = this.createTable();
+
+        // each view used to read through the previous view, until reading a cell overflowed the stack
+        for (int i = 0; i < 50000; i++) {
+            table = table.insertRows(
+                0,
+                Lists.of(
+                    Lists.of("a" + i)
+                )
+            ).deleteRows(0, 1);
+        }
+
+        this.check(
+            table,
+            list(R0C0, R0C1, R0C2),
+            list(R1C0, R1C1, R1C2),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    // deleteRows.......................................................................................................
+
+    @Test
+    public void testDeleteRows() {
+        this.check(
+            this.createTable()
+                .deleteRows(0, 1),
+            list(R1C0, R1C1, R1C2),
+            list(R2C0, R2C1, R2C2)
+        );
+    }
+
+    @Test
+    public void testDeleteRowsAll() {
+        final Table table = this.createTable();
+
+        assertSame(
+            Table.empty(),
+            table.deleteRows(0, table.height())
+        );
+    }
+
+    @Test
+    public void testDeleteRowsAfterSetCell() {
+        this.check(
+            this.createTable()
+                .setCell(0, 2, "x")
+                .deleteRows(1, 2),
+            list(R0C0, R0C1, R0C2),
+            list("x", R2C1, R2C2)
+        );
+    }
+
+    // setSize..........................................................................................................
+
+    @Test
+    public void testSetHeightSmallerThenLarger() {
+        final Table table = this.createTable()
+            .setHeight(1)
+            .setHeight(2);
+
+        this.check(
+            table,
+            list(R0C0, R0C1, R0C2),
+            list(MISSING, MISSING, MISSING)
+        );
+    }
+
+    @Test
+    public void testSetWidthSmallerThenLargerOverride() {
+        final Table table = this.createTable()
+            .setCell(2, 0, "x")
+            .setWidth(2)
+            .setWidth(3);
+
+        this.check(
+            table,
+            list(R0C0, R0C1, MISSING),
+            list(R1C0, R1C1, MISSING),
+            list(R2C0, R2C1, MISSING)
+        );
+    }
+
+    // sort.............................................................................................................
+
+    @Test
+    public void testSortEmpty() {
+        this.sortAndCheck(
+            new int[0],
+            new int[0]
+        );
+    }
+
+    @Test
+    public void testSortStableManyRuns() {
+        final int length = 1000;
+        final int[] rows = new int[length];
+        final int[] expected = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            rows[i] = i;
+        }
+
+        // sorted by row modulo 7 descending, equal keys keep ascending row order
+        int e = 0;
+        for (int key = 6; key >= 0; key--) {
+            for (int i = 0; i < length; i++) {
+                if (key == i % 7) {
+                    expected[e] = i;
+                    e++;
+                }
+            }
+        }
+
+        this.sortAndCheck(
+            rows,
+            expected
+        );
+    }
+
+    @Test
+    public void testSortReversed() {
+        final int length = 100;
+        final int[] rows = new int[length];
+        final int[] expected = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            rows[i] = length - 1 - i;
+            expected[i] = i;
+        }
+
+        TableVirtual.sort(
+            rows,
+            Integer::compare
+        );
+
+        this.checkEquals(
+            Arrays.toString(expected),
+            Arrays.toString(rows)
+        );
+    }
+
+    private void sortAndCheck(final int[] rows,
+                              final int[] expected) {
+        TableVirtual.sort(
+            rows,
+            (l, r) -> Integer.compare(
+                r % 7,
+                l % 7
+            )
+        );
+
+        this.checkEquals(
+            Arrays.toString(expected),
+            Arrays.toString(rows)
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsTableNotEmpty() {
+        final Table table = this.createTable();
+        final Table notEmpty = TableBuilder.with(table)
+            .build();
+
+        this.checkEquals(
+            notEmpty,
+            table,
+            "virtual"
+        );
+        this.checkEquals(
+            table,
+            notEmpty,
+            "not empty"
+        );
+        this.checkEquals(
+            notEmpty.hashCode(),
+            table.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentCell() {
+        this.checkNotEquals(
+            this.createTable()
+                .setCell(0, 0, "different")
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createTable(),
+            "[[r0c0, r0c1, r0c2], [r1c0, r1c1, r1c2], [r2c0, r2c1, r2c2]]"
+        );
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Test
+    public void testTreePrint() {
+        this.treePrintAndCheck(
+            TableVirtual.with(
+                2,
+                2,
+                TableVirtualTest::cells
+            ),
+            "Table\n" +
+                "  width: 2\n" +
+                "  height: 2\n" +
+                "  row: 0\n" +
+                "    \"r0c0\"\n" +
+                "    \"r0c1\"\n" +
+                "  row: 1\n" +
+                "    \"r1c0\"\n" +
+                "    \"r1c1\"\n"
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    @Override
+    TableVirtual createTable() {
+        return (TableVirtual) TableVirtual.with(
+            3,
+            3,
+            TableVirtualTest::cells
+        );
+    }
+
+    private static CharSequence cells(final int column,
+                                      final int row) {
+        return "r" + row + "c" + column;
+    }
+
+    @Override
+    int width() {
+        return 3;
+    }
+
+    @Override
+    int height() {
+        return 3;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TableVirtual> type() {
+        return TableVirtual.class;
+    }
+}